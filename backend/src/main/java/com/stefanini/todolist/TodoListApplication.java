@@ -27,7 +27,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *   <li>Flyway para migrations</li>
  *   <li>Swagger/OpenAPI para documentação</li>
  *   <li>Lombok para redução de código boilerplate</li>
- *   <li>ModelMapper para mapeamento de objetos</li>
+ *   <li>MapStruct para mapeamento de objetos</li>
  * </ul>
  *
  * @author Stefanini Challenge
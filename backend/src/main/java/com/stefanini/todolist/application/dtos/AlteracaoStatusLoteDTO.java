@@ -0,0 +1,59 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO para alteração de status de várias tarefas em uma única operação.
+ *
+ * <p>As tarefas podem ser selecionadas por uma lista de IDs ou por critérios
+ * de filtro (status atual e/ou período de criação), mas não por ambos.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Dados para alteração de status em lote")
+public class AlteracaoStatusLoteDTO {
+
+    /**
+     * Novo status das tarefas selecionadas.
+     */
+    @NotNull(message = "O novo status é obrigatório")
+    @Schema(description = "Novo status", example = "CONCLUIDA", required = true)
+    private StatusTarefa novoStatus;
+
+    /**
+     * IDs das tarefas a serem alteradas.
+     */
+    @Schema(description = "IDs das tarefas (não combinável com os filtros)", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    /**
+     * Filtro pelo status atual das tarefas.
+     */
+    @Schema(description = "Filtro pelo status atual", example = "EM_ANDAMENTO")
+    private StatusTarefa statusAtual;
+
+    /**
+     * Filtro pela data de criação inicial (inclusive).
+     */
+    @Schema(description = "Filtro: criadas a partir de", example = "2026-01-01T00:00:00")
+    private LocalDateTime criadaDe;
+
+    /**
+     * Filtro pela data de criação final (inclusive).
+     */
+    @Schema(description = "Filtro: criadas até", example = "2026-01-15T23:59:59")
+    private LocalDateTime criadaAte;
+}
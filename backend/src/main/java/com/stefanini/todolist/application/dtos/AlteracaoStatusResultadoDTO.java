@@ -0,0 +1,33 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de resposta da alteração de status em lote.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado da alteração de status em lote")
+public class AlteracaoStatusResultadoDTO {
+
+    /**
+     * Novo status aplicado.
+     */
+    @Schema(description = "Novo status aplicado", example = "CONCLUIDA")
+    private StatusTarefa novoStatus;
+
+    /**
+     * Quantidade de tarefas que tiveram o status alterado.
+     */
+    @Schema(description = "Quantidade de tarefas alteradas", example = "120")
+    private int afetadas;
+}
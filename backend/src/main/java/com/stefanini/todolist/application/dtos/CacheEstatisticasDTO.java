@@ -0,0 +1,58 @@
+package com.stefanini.todolist.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de resposta com as estatísticas de uso de um cache.
+ *
+ * <p>Utilizado para acompanhar a eficiência do cache e ajustar seu tamanho.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Estatísticas de uso de um cache")
+public class CacheEstatisticasDTO {
+
+    /**
+     * Nome do cache.
+     */
+    @Schema(description = "Nome do cache", example = "tarefas")
+    private String nome;
+
+    /**
+     * Quantidade aproximada de entradas no cache.
+     */
+    @Schema(description = "Quantidade aproximada de entradas", example = "850")
+    private long tamanho;
+
+    /**
+     * Quantidade de leituras atendidas pelo cache.
+     */
+    @Schema(description = "Leituras atendidas pelo cache", example = "9000")
+    private long acertos;
+
+    /**
+     * Quantidade de leituras que precisaram consultar o banco.
+     */
+    @Schema(description = "Leituras que consultaram o banco", example = "1000")
+    private long falhas;
+
+    /**
+     * Quantidade de entradas removidas por tamanho ou expiração.
+     */
+    @Schema(description = "Entradas removidas por tamanho ou expiração", example = "150")
+    private long remocoes;
+
+    /**
+     * Proporção de acertos sobre o total de leituras (0 a 1).
+     */
+    @Schema(description = "Taxa de acerto (0 a 1)", example = "0.9")
+    private double taxaAcerto;
+}
@@ -0,0 +1,35 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * DTO de resposta com a quantidade de tarefas por status.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Quantidade de tarefas por status")
+public class EstatisticasTarefasDTO {
+
+    /**
+     * Quantidade de tarefas de cada status.
+     */
+    @Schema(description = "Quantidade de tarefas por status", example = "{\"PENDENTE\": 3, \"EM_ANDAMENTO\": 1, \"CONCLUIDA\": 1}")
+    private Map<StatusTarefa, Long> porStatus;
+
+    /**
+     * Quantidade total de tarefas.
+     */
+    @Schema(description = "Quantidade total de tarefas", example = "5")
+    private long total;
+}
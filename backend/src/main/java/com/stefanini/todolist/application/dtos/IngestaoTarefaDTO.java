@@ -0,0 +1,69 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de resposta com a situação de uma tarefa enviada pela ingestão em grupo.
+ *
+ * <p>O {@code token} é devolvido no envio e permite consultar, depois da gravação
+ * do grupo, a tarefa criada (com o ID gerado) ou os motivos da rejeição.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Situação de uma tarefa enviada pela ingestão em grupo")
+public class IngestaoTarefaDTO {
+
+    /**
+     * Token de correlação do envio.
+     */
+    @Schema(description = "Token de correlação do envio", example = "3f2b8c1e-5d4a-4f7b-9a61-0c2d8e7f1a90")
+    private String token;
+
+    /**
+     * Situação do envio.
+     */
+    @Schema(description = "Situação do envio", example = "CRIADA")
+    private Situacao situacao;
+
+    /**
+     * Tarefa criada, quando a situação for {@link Situacao#CRIADA}.
+     */
+    @Schema(description = "Tarefa criada (apenas na situação CRIADA)")
+    private TarefaResponseDTO tarefa;
+
+    /**
+     * Motivos da rejeição, quando a situação for {@link Situacao#REJEITADA}.
+     */
+    @Schema(description = "Motivos da rejeição (apenas na situação REJEITADA)")
+    private List<String> erros;
+
+    /**
+     * Situações possíveis de um envio.
+     */
+    public enum Situacao {
+        /**
+         * Na fila, aguardando a gravação do grupo.
+         */
+        PENDENTE,
+        /**
+         * Gravada; a tarefa criada está disponível.
+         */
+        CRIADA,
+        /**
+         * Não gravada, por dados inválidos ou falha na gravação do grupo.
+         */
+        REJEITADA
+    }
+}
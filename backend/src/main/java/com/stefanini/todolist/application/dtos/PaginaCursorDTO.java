@@ -0,0 +1,45 @@
+package com.stefanini.todolist.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para listagens paginadas por cursor (keyset).
+ *
+ * <p>Contém os itens da página atual e o cursor opaco que deve ser enviado
+ * na próxima requisição para obter a página seguinte.</p>
+ *
+ * @param <T> Tipo dos itens da página
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Página de resultados paginada por cursor")
+public class PaginaCursorDTO<T> {
+
+    /**
+     * Itens da página atual.
+     */
+    @Schema(description = "Itens da página atual")
+    private List<T> itens;
+
+    /**
+     * Cursor opaco para a próxima página.
+     * Nulo quando não há mais registros.
+     */
+    @Schema(description = "Cursor para a próxima página (nulo na última página)", example = "MjAyNi0wMS0wNlQxMDozMDowMHw0Mg")
+    private String proximoCursor;
+
+    /**
+     * Quantidade de itens retornados na página.
+     */
+    @Schema(description = "Quantidade de itens na página", example = "50")
+    private int tamanho;
+}
@@ -0,0 +1,49 @@
+package com.stefanini.todolist.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para a busca textual de tarefas.
+ *
+ * <p>Contém a página de tarefas encontradas, ordenadas por relevância,
+ * e o total de tarefas que atendem à busca.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado da busca textual de tarefas")
+public class ResultadoBuscaDTO {
+
+    /**
+     * Tarefas da página, da mais para a menos relevante.
+     */
+    @Schema(description = "Tarefas da página, da mais para a menos relevante")
+    private List<TarefaResponseDTO> itens;
+
+    /**
+     * Quantidade total de tarefas que atendem à busca.
+     */
+    @Schema(description = "Quantidade total de tarefas encontradas", example = "128")
+    private long totalEncontrado;
+
+    /**
+     * Número da página retornada (começando em zero).
+     */
+    @Schema(description = "Número da página (começando em zero)", example = "0")
+    private int pagina;
+
+    /**
+     * Quantidade máxima de tarefas por página.
+     */
+    @Schema(description = "Quantidade máxima de tarefas por página", example = "20")
+    private int tamanho;
+}
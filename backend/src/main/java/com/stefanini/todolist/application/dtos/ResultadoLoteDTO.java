@@ -0,0 +1,73 @@
+package com.stefanini.todolist.application.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da criação de tarefas em lote.
+ *
+ * <p>Contém as tarefas criadas e, para cada item rejeitado, sua posição na
+ * requisição e os motivos da rejeição.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resultado da criação de tarefas em lote")
+public class ResultadoLoteDTO {
+
+    /**
+     * Quantidade de itens recebidos na requisição.
+     */
+    @Schema(description = "Quantidade de itens recebidos", example = "3")
+    private int totalRecebido;
+
+    /**
+     * Quantidade de tarefas criadas.
+     */
+    @Schema(description = "Quantidade de tarefas criadas", example = "2")
+    private int totalCriado;
+
+    /**
+     * Tarefas criadas, na ordem da requisição.
+     */
+    @Schema(description = "Tarefas criadas")
+    private List<TarefaResponseDTO> criadas;
+
+    /**
+     * Itens rejeitados.
+     */
+    @Schema(description = "Itens rejeitados")
+    private List<Falha> falhas;
+
+    /**
+     * Classe interna que representa um item rejeitado do lote.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Item rejeitado do lote")
+    public static class Falha {
+
+        /**
+         * Posição do item na lista enviada (iniciando em 0).
+         */
+        @Schema(description = "Posição do item na requisição", example = "1")
+        private int indice;
+
+        /**
+         * Motivos da rejeição.
+         */
+        @Schema(description = "Motivos da rejeição", example = "[\"titulo: O título é obrigatório\"]")
+        private List<String> erros;
+    }
+}
@@ -0,0 +1,56 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * DTO para atualização parcial de uma tarefa.
+ *
+ * <p>Apenas os campos informados são alterados; campos nulos mantêm o valor
+ * atual. A versão é obrigatória e deve corresponder à versão atual da tarefa,
+ * caso contrário a alteração é rejeitada com conflito (409).</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Dados para atualização parcial de uma tarefa")
+public class TarefaPatchDTO {
+
+    /**
+     * Novo título da tarefa (opcional).
+     */
+    @Size(min = 3, max = 100, message = "O título deve ter entre 3 e 100 caracteres")
+    @Pattern(regexp = ".*\\S.*", message = "O título não pode ser vazio")
+    @Schema(description = "Novo título da tarefa", example = "Implementar API REST - Revisado")
+    private String titulo;
+
+    /**
+     * Nova descrição da tarefa (opcional).
+     */
+    @Size(max = 500, message = "A descrição deve ter no máximo 500 caracteres")
+    @Schema(description = "Nova descrição da tarefa", example = "Incluir testes de integração")
+    private String descricao;
+
+    /**
+     * Novo status da tarefa (opcional).
+     */
+    @Schema(description = "Novo status da tarefa", example = "CONCLUIDA")
+    private StatusTarefa status;
+
+    /**
+     * Versão da tarefa conhecida pelo cliente.
+     */
+    @NotNull(message = "A versão é obrigatória")
+    @Schema(description = "Versão atual da tarefa conhecida pelo cliente", example = "3", required = true)
+    private Long versao;
+}
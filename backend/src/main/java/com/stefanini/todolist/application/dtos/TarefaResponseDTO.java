@@ -1,6 +1,7 @@
 package com.stefanini.todolist.application.dtos;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.stefanini.todolist.application.serializacao.TarefaResponseSerializer;
 import com.stefanini.todolist.domain.enums.StatusTarefa;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -13,6 +14,10 @@ import java.time.LocalDateTime;
  * <p>Este objeto é utilizado para transferir dados de tarefa nas respostas da API.
  * Contém todos os campos da tarefa, incluindo informações de auditoria.</p>
  *
+ * <p>É serializado pelo {@link TarefaResponseSerializer}, que escreve os campos
+ * diretamente no gerador, com as datas no formato
+ * {@link com.stefanini.todolist.application.serializacao.EscritorTarefaJson#PADRAO_DATA}.</p>
+ *
  * @author Stefanini Challenge
  * @version 1.0
  * @since 2026-01-06
@@ -23,6 +28,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Schema(description = "Dados de resposta de uma tarefa")
+@JsonSerialize(using = TarefaResponseSerializer.class)
 public class TarefaResponseDTO {
 
     /**
@@ -46,14 +52,12 @@ public class TarefaResponseDTO {
     /**
      * Data e hora de criação da tarefa.
      */
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     @Schema(description = "Data e hora de criação", example = "2026-01-06T10:30:00")
     private LocalDateTime dataCriacao;
 
     /**
      * Data e hora da última atualização.
      */
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     @Schema(description = "Data e hora da última atualização", example = "2026-01-06T15:45:00")
     private LocalDateTime dataAtualizacao;
 
@@ -62,5 +66,11 @@ public class TarefaResponseDTO {
      */
     @Schema(description = "Status atual da tarefa", example = "EM_ANDAMENTO")
     private StatusTarefa status;
+
+    /**
+     * Versão da tarefa, incrementada a cada alteração.
+     */
+    @Schema(description = "Versão da tarefa, incrementada a cada alteração", example = "3")
+    private Long versao;
 }
 
@@ -0,0 +1,65 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta com o resumo de uma tarefa, usado nas listagens com {@code view=summary}.
+ *
+ * <p>Não inclui a descrição. É preenchido diretamente pela consulta (expressão
+ * {@code SELECT new}), sem carregar entidades no contexto de persistência.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resumo de uma tarefa (sem descrição)")
+public class TarefaResumoDTO {
+
+    /**
+     * Identificador único da tarefa.
+     */
+    @Schema(description = "ID único da tarefa", example = "1")
+    private Long id;
+
+    /**
+     * Título da tarefa.
+     */
+    @Schema(description = "Título da tarefa", example = "Implementar API REST")
+    private String titulo;
+
+    /**
+     * Status atual da tarefa.
+     */
+    @Schema(description = "Status atual da tarefa", example = "EM_ANDAMENTO")
+    private StatusTarefa status;
+
+    /**
+     * Data e hora de criação da tarefa.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Data e hora de criação", example = "2026-01-06T10:30:00")
+    private LocalDateTime dataCriacao;
+
+    /**
+     * Data e hora da última atualização.
+     */
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Data e hora da última atualização", example = "2026-01-06T15:45:00")
+    private LocalDateTime dataAtualizacao;
+
+    /**
+     * Versão da tarefa, incrementada a cada alteração.
+     */
+    @Schema(description = "Versão da tarefa, incrementada a cada alteração", example = "3")
+    private Long versao;
+}
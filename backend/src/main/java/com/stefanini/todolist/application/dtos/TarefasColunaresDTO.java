@@ -0,0 +1,113 @@
+package com.stefanini.todolist.application.dtos;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de resposta com uma lista de tarefas em formato colunar.
+ *
+ * <p>Em vez de um objeto por tarefa, cada campo é um array com os valores de
+ * todas as tarefas, na mesma posição. Os nomes dos campos aparecem uma única
+ * vez na resposta, o que reduz o tamanho de listas grandes. Enviado em
+ * {@code GET /api/tarefas} com {@code Accept: application/vnd.todolist.colunar+json}.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Lista de tarefas em formato colunar (um array por campo)")
+public class TarefasColunaresDTO {
+
+    /**
+     * Tipo de mídia da representação colunar.
+     */
+    public static final String MEDIA_TYPE = "application/vnd.todolist.colunar+json";
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * Quantidade de tarefas (tamanho de cada coluna).
+     */
+    @Schema(description = "Quantidade de tarefas", example = "2")
+    private int total;
+
+    /**
+     * IDs das tarefas.
+     */
+    @Schema(description = "IDs das tarefas", example = "[1, 2]")
+    private List<Long> id;
+
+    /**
+     * Títulos das tarefas.
+     */
+    @Schema(description = "Títulos das tarefas")
+    private List<String> titulo;
+
+    /**
+     * Descrições das tarefas.
+     */
+    @Schema(description = "Descrições das tarefas")
+    private List<String> descricao;
+
+    /**
+     * Status das tarefas.
+     */
+    @Schema(description = "Status das tarefas")
+    private List<StatusTarefa> status;
+
+    /**
+     * Datas de criação das tarefas ({@code yyyy-MM-dd'T'HH:mm:ss}).
+     */
+    @Schema(description = "Datas de criação das tarefas")
+    private List<String> dataCriacao;
+
+    /**
+     * Datas da última atualização das tarefas ({@code yyyy-MM-dd'T'HH:mm:ss}).
+     */
+    @Schema(description = "Datas da última atualização das tarefas")
+    private List<String> dataAtualizacao;
+
+    /**
+     * Versões das tarefas.
+     */
+    @Schema(description = "Versões das tarefas")
+    private List<Long> versao;
+
+    /**
+     * Converte uma lista de tarefas para o formato colunar, preservando a ordem.
+     *
+     * @param tarefas Tarefas a converter
+     * @return Tarefas em formato colunar
+     */
+    public static TarefasColunaresDTO de(List<TarefaResponseDTO> tarefas) {
+        int total = tarefas.size();
+        TarefasColunaresDTO colunas = new TarefasColunaresDTO(total,
+                new ArrayList<>(total), new ArrayList<>(total), new ArrayList<>(total), new ArrayList<>(total),
+                new ArrayList<>(total), new ArrayList<>(total), new ArrayList<>(total));
+        for (TarefaResponseDTO tarefa : tarefas) {
+            colunas.id.add(tarefa.getId());
+            colunas.titulo.add(tarefa.getTitulo());
+            colunas.descricao.add(tarefa.getDescricao());
+            colunas.status.add(tarefa.getStatus());
+            colunas.dataCriacao.add(formatar(tarefa.getDataCriacao()));
+            colunas.dataAtualizacao.add(formatar(tarefa.getDataAtualizacao()));
+            colunas.versao.add(tarefa.getVersao());
+        }
+        return colunas;
+    }
+
+    private static String formatar(LocalDateTime data) {
+        return data != null ? FORMATO_DATA.format(data) : null;
+    }
+}
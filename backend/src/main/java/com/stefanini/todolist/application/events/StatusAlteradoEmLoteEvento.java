@@ -0,0 +1,26 @@
+package com.stefanini.todolist.application.events;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+
+import java.util.List;
+
+/**
+ * Evento publicado após a alteração de status de várias tarefas por um único UPDATE.
+ *
+ * <p>Como a alteração é feita diretamente no banco, não há um {@link TarefaEvento}
+ * por tarefa; os ouvintes recebem apenas o resumo da operação.</p>
+ *
+ * @param ids IDs informados na seleção ({@code null} quando selecionadas por filtro)
+ * @param statusAnterior Status de origem, quando conhecido ({@code null} caso contrário)
+ * @param novoStatus Status aplicado
+ * @param afetadas Quantidade de tarefas alteradas
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public record StatusAlteradoEmLoteEvento(
+        List<Long> ids,
+        StatusTarefa statusAnterior,
+        StatusTarefa novoStatus,
+        int afetadas) {
+}
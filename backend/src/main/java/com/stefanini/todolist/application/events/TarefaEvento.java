@@ -0,0 +1,69 @@
+package com.stefanini.todolist.application.events;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+
+/**
+ * Evento publicado pelo serviço de tarefas a cada alteração de uma tarefa.
+ *
+ * <p>Permite que componentes interessados (contadores, caches, notificações)
+ * reajam às alterações sem acoplamento direto ao serviço. Os ouvintes devem
+ * preferir {@code @TransactionalEventListener} para reagir apenas após o commit.</p>
+ *
+ * @param tipo Tipo da alteração
+ * @param id ID da tarefa alterada
+ * @param statusAnterior Status antes da alteração ({@code null} na criação)
+ * @param statusAtual Status após a alteração ({@code null} na remoção)
+ * @param tarefa Estado atual da tarefa ({@code null} na remoção)
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+public record TarefaEvento(
+        Tipo tipo,
+        Long id,
+        StatusTarefa statusAnterior,
+        StatusTarefa statusAtual,
+        TarefaResponseDTO tarefa) {
+
+    /**
+     * Tipos de alteração de uma tarefa.
+     */
+    public enum Tipo {
+        CRIADA,
+        ATUALIZADA,
+        REMOVIDA
+    }
+
+    /**
+     * Cria o evento de criação de uma tarefa.
+     *
+     * @param tarefa Tarefa criada
+     * @return Evento de criação
+     */
+    public static TarefaEvento criada(TarefaResponseDTO tarefa) {
+        return new TarefaEvento(Tipo.CRIADA, tarefa.getId(), null, tarefa.getStatus(), tarefa);
+    }
+
+    /**
+     * Cria o evento de atualização de uma tarefa.
+     *
+     * @param statusAnterior Status antes da atualização
+     * @param tarefa Tarefa atualizada
+     * @return Evento de atualização
+     */
+    public static TarefaEvento atualizada(StatusTarefa statusAnterior, TarefaResponseDTO tarefa) {
+        return new TarefaEvento(Tipo.ATUALIZADA, tarefa.getId(), statusAnterior, tarefa.getStatus(), tarefa);
+    }
+
+    /**
+     * Cria o evento de remoção de uma tarefa.
+     *
+     * @param id ID da tarefa removida
+     * @param statusAnterior Status da tarefa no momento da remoção
+     * @return Evento de remoção
+     */
+    public static TarefaEvento removida(Long id, StatusTarefa statusAnterior) {
+        return new TarefaEvento(Tipo.REMOVIDA, id, statusAnterior, null, null);
+    }
+}
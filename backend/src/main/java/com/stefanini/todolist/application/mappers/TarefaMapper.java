@@ -0,0 +1,76 @@
+package com.stefanini.todolist.application.mappers;
+
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaPatchDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
+import com.stefanini.todolist.domain.entities.Tarefa;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+/**
+ * Mapper entre a entidade {@link Tarefa} e seus DTOs.
+ *
+ * <p>A implementação é gerada pelo MapStruct em tempo de compilação, com chamadas
+ * diretas a getters e setters, sem uso de reflexão em tempo de execução.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface TarefaMapper {
+
+    /**
+     * Converte uma entidade em DTO de resposta.
+     *
+     * @param tarefa Entidade de origem
+     * @return DTO de resposta
+     */
+    TarefaResponseDTO toResponseDTO(Tarefa tarefa);
+
+    /**
+     * Cria uma nova entidade a partir dos dados de criação.
+     * Campos gerados pelo banco, de auditoria e de versão não são mapeados.
+     *
+     * @param createDTO Dados de criação
+     * @return Nova entidade (ainda não persistida)
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "dataCriacao", ignore = true)
+    @Mapping(target = "dataAtualizacao", ignore = true)
+    @Mapping(target = "versao", ignore = true)
+    Tarefa toEntity(TarefaCreateDTO createDTO);
+
+    /**
+     * Aplica os dados de atualização sobre uma entidade existente.
+     * O status só é alterado quando informado.
+     *
+     * @param updateDTO Dados de atualização
+     * @param tarefa Entidade a ser atualizada
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "dataCriacao", ignore = true)
+    @Mapping(target = "dataAtualizacao", ignore = true)
+    @Mapping(target = "versao", ignore = true)
+    @Mapping(target = "status", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void atualizar(TarefaUpdateDTO updateDTO, @MappingTarget Tarefa tarefa);
+
+    /**
+     * Aplica apenas os campos informados de uma atualização parcial.
+     * Campos nulos mantêm o valor atual; a versão é controlada pelo Hibernate.
+     *
+     * @param patchDTO Dados da atualização parcial
+     * @param tarefa Entidade a ser atualizada
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "dataCriacao", ignore = true)
+    @Mapping(target = "dataAtualizacao", ignore = true)
+    @Mapping(target = "versao", ignore = true)
+    void aplicar(TarefaPatchDTO patchDTO, @MappingTarget Tarefa tarefa);
+}
@@ -0,0 +1,135 @@
+package com.stefanini.todolist.application.serializacao;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escreve tarefas diretamente em um {@link JsonGenerator}, sem introspecção de beans.
+ *
+ * <p>Produz o mesmo JSON da serialização de {@link TarefaResponseDTO} por
+ * introspecção (mesmos campos, na mesma ordem, datas no formato {@link #PADRAO_DATA}
+ * e valores nulos incluídos), com:
+ * <ul>
+ *   <li>nomes de campos e de status pré-codificados ({@link SerializedString})</li>
+ *   <li>datas formatadas em um buffer de caracteres reutilizado, sem criar
+ *       {@link String} nem usar {@link DateTimeFormatter} a cada linha</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Não é thread-safe (o buffer é reutilizado): use uma instância por serialização.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public final class EscritorTarefaJson {
+
+    /**
+     * Formato das datas de uma tarefa.
+     */
+    public static final String PADRAO_DATA = "yyyy-MM-dd'T'HH:mm:ss";
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITULO = new SerializedString("titulo");
+    private static final SerializableString DESCRICAO = new SerializedString("descricao");
+    private static final SerializableString DATA_CRIACAO = new SerializedString("dataCriacao");
+    private static final SerializableString DATA_ATUALIZACAO = new SerializedString("dataAtualizacao");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString VERSAO = new SerializedString("versao");
+
+    private static final SerializableString[] NOMES_STATUS = nomesStatus();
+
+    /**
+     * Formato usado apenas para anos fora de 0 a 9999, que não cabem no buffer.
+     */
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern(PADRAO_DATA);
+
+    private static final int TAMANHO_DATA = 19;
+
+    private final char[] data = new char[TAMANHO_DATA];
+
+    /**
+     * Escreve uma tarefa a partir do DTO.
+     *
+     * @param gerador Gerador de destino
+     * @param tarefa Tarefa a escrever
+     * @throws IOException se a escrita falhar
+     */
+    public void escrever(JsonGenerator gerador, TarefaResponseDTO tarefa) throws IOException {
+        gerador.writeStartObject();
+        gerador.writeFieldName(ID);
+        escreverNumero(gerador, tarefa.getId());
+        gerador.writeFieldName(TITULO);
+        gerador.writeString(tarefa.getTitulo());
+        gerador.writeFieldName(DESCRICAO);
+        gerador.writeString(tarefa.getDescricao());
+        gerador.writeFieldName(DATA_CRIACAO);
+        escreverData(gerador, tarefa.getDataCriacao());
+        gerador.writeFieldName(DATA_ATUALIZACAO);
+        escreverData(gerador, tarefa.getDataAtualizacao());
+        gerador.writeFieldName(STATUS);
+        StatusTarefa status = tarefa.getStatus();
+        if (status == null) {
+            gerador.writeNull();
+        } else {
+            gerador.writeString(NOMES_STATUS[status.ordinal()]);
+        }
+        gerador.writeFieldName(VERSAO);
+        escreverNumero(gerador, tarefa.getVersao());
+        gerador.writeEndObject();
+    }
+
+    private static void escreverNumero(JsonGenerator gerador, Long valor) throws IOException {
+        if (valor == null) {
+            gerador.writeNull();
+        } else {
+            gerador.writeNumber(valor.longValue());
+        }
+    }
+
+    private void escreverData(JsonGenerator gerador, LocalDateTime valor) throws IOException {
+        if (valor == null) {
+            gerador.writeNull();
+            return;
+        }
+        int ano = valor.getYear();
+        if (ano < 0 || ano > 9999) {
+            gerador.writeString(FORMATO_DATA.format(valor));
+            return;
+        }
+        digitos(ano / 100, 0);
+        digitos(ano % 100, 2);
+        data[4] = '-';
+        digitos(valor.getMonthValue(), 5);
+        data[7] = '-';
+        digitos(valor.getDayOfMonth(), 8);
+        data[10] = 'T';
+        digitos(valor.getHour(), 11);
+        data[13] = ':';
+        digitos(valor.getMinute(), 14);
+        data[16] = ':';
+        digitos(valor.getSecond(), 17);
+        gerador.writeString(data, 0, TAMANHO_DATA);
+    }
+
+    private void digitos(int valor, int posicao) {
+        data[posicao] = (char) ('0' + valor / 10);
+        data[posicao + 1] = (char) ('0' + valor % 10);
+    }
+
+    private static SerializableString[] nomesStatus() {
+        StatusTarefa[] valores = StatusTarefa.values();
+        SerializableString[] nomes = new SerializableString[valores.length];
+        for (StatusTarefa status : valores) {
+            nomes[status.ordinal()] = new SerializedString(status.name());
+        }
+        return nomes;
+    }
+}
@@ -0,0 +1,43 @@
+package com.stefanini.todolist.application.serializacao;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+
+import java.io.IOException;
+
+/**
+ * Serializador Jackson dedicado de {@link TarefaResponseDTO}, aplicado via {@code @JsonSerialize}.
+ *
+ * <p>Delega a escrita ao {@link EscritorTarefaJson}. Um escritor (e seu buffer de
+ * datas) é criado por chamada de serialização e guardado nos atributos do
+ * {@link SerializerProvider}, de modo que uma lista de milhares de tarefas
+ * reutiliza o mesmo buffer sem compartilhá-lo entre threads.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public class TarefaResponseSerializer extends StdSerializer<TarefaResponseDTO> {
+
+    private static final Object ATRIBUTO_ESCRITOR = EscritorTarefaJson.class;
+
+    /**
+     * Cria o serializador.
+     */
+    public TarefaResponseSerializer() {
+        super(TarefaResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(TarefaResponseDTO tarefa, JsonGenerator gerador, SerializerProvider provider)
+            throws IOException {
+        EscritorTarefaJson escritor = (EscritorTarefaJson) provider.getAttribute(ATRIBUTO_ESCRITOR);
+        if (escritor == null) {
+            escritor = new EscritorTarefaJson();
+            provider.setAttribute(ATRIBUTO_ESCRITOR, escritor);
+        }
+        escritor.escrever(gerador, tarefa);
+    }
+}
@@ -0,0 +1,316 @@
+package com.stefanini.todolist.application.services;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache da listagem de tarefas por status, particionado por {@link StatusTarefa}.
+ *
+ * <p>Cada status mantém suas tarefas em uma árvore ordenada da mais recente para
+ * a mais antiga (mesma ordem de {@code listarPorStatus}) e em um índice por ID.
+ * Após o commit de cada alteração, a tarefa é inserida, movida ou removida em
+ * O(log n), sem nova consulta ao banco e sem copiar a listagem. As escritas são
+ * serializadas entre si.</p>
+ *
+ * <p>A leitura devolve um snapshot imutável da árvore. Ele é criado na primeira
+ * leitura após uma alteração e reaproveitado, sem travas, pelas leituras
+ * seguintes; uma sequência de escritas sem leituras intermediárias não copia
+ * a listagem.</p>
+ *
+ * <p>Para evitar que um snapshot carregado do banco sobrescreva uma alteração
+ * concorrente, o chamador lê {@link #marca(StatusTarefa)} <b>antes</b> da consulta
+ * e o snapshot só é armazenado se nenhuma alteração daquele status ocorreu desde então.</p>
+ *
+ * <p>Como cada atualização incrementa a versão da tarefa em uma unidade, uma
+ * atualização cuja versão anterior não está no snapshot de origem indica eventos
+ * fora de ordem; nesse caso os status envolvidos são descartados e recarregados
+ * na próxima leitura. O mesmo ocorre nas alterações de status em lote, feitas
+ * diretamente no banco.</p>
+ *
+ * <p>O consumo de memória é estimado por tarefa e limitado a
+ * {@code todolist.cache.status.memoria-maxima}. Um status que não cabe no limite
+ * não é armazenado, e suas listagens continuam sendo atendidas pelo banco.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@Slf4j
+public class CacheTarefasPorStatus {
+
+    /**
+     * Ordem das tarefas em cada snapshot: data de criação e ID, decrescentes.
+     */
+    static final Comparator<TarefaResponseDTO> ORDEM = Comparator
+            .comparing(TarefaResponseDTO::getDataCriacao)
+            .thenComparing(TarefaResponseDTO::getId)
+            .reversed();
+
+    /**
+     * Estimativa do tamanho de uma tarefa sem os textos: DTO, ID, versão, datas,
+     * nós da árvore e do índice por ID e referência no snapshot.
+     */
+    private static final long BYTES_POR_TAREFA = 320;
+
+    /**
+     * Estimativa do tamanho fixo de uma {@link String} (objeto e cabeçalho do array).
+     */
+    private static final long BYTES_POR_TEXTO = 40;
+
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+
+    private final long memoriaMaxima;
+    private final AtomicReferenceArray<Particao> particoes = new AtomicReferenceArray<>(STATUS.length);
+    private final AtomicLongArray modificacoes = new AtomicLongArray(STATUS.length);
+    private final Object trava = new Object();
+    private long memoriaUsada;
+
+    /**
+     * Cria o cache com o limite de memória informado.
+     *
+     * @param memoriaMaxima Memória máxima estimada para todos os status (zero desativa o cache)
+     */
+    public CacheTarefasPorStatus(@Value("${todolist.cache.status.memoria-maxima:32MB}") DataSize memoriaMaxima) {
+        this.memoriaMaxima = memoriaMaxima.toBytes();
+    }
+
+    /**
+     * Obtém o snapshot das tarefas de um status.
+     *
+     * @param status Status da listagem
+     * @return Lista imutável de tarefas, ou {@code null} se o status não estiver em cache
+     */
+    public List<TarefaResponseDTO> obter(StatusTarefa status) {
+        Particao particao = particoes.get(status.ordinal());
+        if (particao == null) {
+            return null;
+        }
+        List<TarefaResponseDTO> snapshot = particao.snapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        synchronized (trava) {
+            if (particoes.get(status.ordinal()) != particao) {
+                return null;
+            }
+            if (particao.snapshot == null) {
+                particao.snapshot = List.copyOf(particao.ordenadas);
+            }
+            return particao.snapshot;
+        }
+    }
+
+    /**
+     * Marca de modificação de um status, a ser lida antes da consulta ao banco.
+     *
+     * @param status Status da listagem
+     * @return Marca a ser informada em {@link #armazenar}
+     */
+    public long marca(StatusTarefa status) {
+        return modificacoes.get(status.ordinal());
+    }
+
+    /**
+     * Armazena as tarefas de um status lidas do banco, já na ordem de {@link #ORDEM}.
+     * Nada é armazenado se o status foi alterado desde a marca ou se o limite de memória for excedido.
+     *
+     * @param status Status da listagem
+     * @param marca Marca lida antes da consulta
+     * @param tarefas Tarefas do status
+     */
+    public void armazenar(StatusTarefa status, long marca, List<TarefaResponseDTO> tarefas) {
+        if (memoriaMaxima == 0) {
+            return;
+        }
+        List<TarefaResponseDTO> itens = List.copyOf(tarefas);
+        Particao nova = new Particao(itens, estimar(itens));
+
+        synchronized (trava) {
+            int indice = status.ordinal();
+            if (modificacoes.get(indice) != marca || particoes.get(indice) != null) {
+                return;
+            }
+            if (memoriaUsada + nova.bytes > memoriaMaxima) {
+                log.debug("Tarefas com status {} excedem o limite de memória do cache ({} bytes)", status, nova.bytes);
+                return;
+            }
+            memoriaUsada += nova.bytes;
+            particoes.set(indice, nova);
+        }
+    }
+
+    /**
+     * Aplica a alteração de uma tarefa aos snapshots após o commit.
+     *
+     * @param evento Evento de alteração da tarefa
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaEvento evento) {
+        synchronized (trava) {
+            switch (evento.tipo()) {
+                case CRIADA -> inserir(evento.statusAtual(), evento.tarefa());
+                case ATUALIZADA -> mover(evento);
+                case REMOVIDA -> remover(evento.statusAnterior(), evento.id());
+            }
+        }
+    }
+
+    /**
+     * Descarta os snapshots afetados por uma alteração de status em lote.
+     *
+     * @param evento Evento de alteração em lote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarStatusEmLote(StatusAlteradoEmLoteEvento evento) {
+        synchronized (trava) {
+            if (evento.statusAnterior() == null) {
+                for (StatusTarefa status : STATUS) {
+                    descartar(status);
+                }
+            } else {
+                descartar(evento.statusAnterior());
+                descartar(evento.novoStatus());
+            }
+        }
+    }
+
+    private void mover(TarefaEvento evento) {
+        TarefaResponseDTO tarefa = evento.tarefa();
+        StatusTarefa origem = evento.statusAnterior();
+        Particao particaoOrigem = particoes.get(origem.ordinal());
+        if (particaoOrigem != null) {
+            TarefaResponseDTO anterior = particaoOrigem.porId.get(tarefa.getId());
+            if (anterior == null || anterior.getVersao() == null || tarefa.getVersao() == null
+                    || anterior.getVersao() + 1 != tarefa.getVersao()) {
+                descartar(origem);
+                descartar(tarefa.getStatus());
+                return;
+            }
+        }
+        remover(origem, tarefa.getId());
+        inserir(tarefa.getStatus(), tarefa);
+    }
+
+    private void inserir(StatusTarefa status, TarefaResponseDTO tarefa) {
+        int indice = status.ordinal();
+        modificacoes.incrementAndGet(indice);
+        Particao particao = particoes.get(indice);
+        if (particao == null) {
+            return;
+        }
+
+        TarefaResponseDTO existente = particao.porId.get(tarefa.getId());
+        if (existente != null && existente.getVersao() != null && tarefa.getVersao() != null
+                && existente.getVersao() >= tarefa.getVersao()) {
+            return;
+        }
+
+        long bytes = particao.bytes + estimar(tarefa) - (existente != null ? estimar(existente) : 0);
+        if (!reservar(status, particao, bytes)) {
+            return;
+        }
+        if (existente != null) {
+            particao.ordenadas.remove(existente);
+        }
+        particao.ordenadas.add(tarefa);
+        particao.porId.put(tarefa.getId(), tarefa);
+        particao.snapshot = null;
+    }
+
+    private void remover(StatusTarefa status, Long id) {
+        int indice = status.ordinal();
+        modificacoes.incrementAndGet(indice);
+        Particao particao = particoes.get(indice);
+        if (particao == null) {
+            return;
+        }
+
+        TarefaResponseDTO removida = particao.porId.remove(id);
+        if (removida == null) {
+            return;
+        }
+        particao.ordenadas.remove(removida);
+        reservar(status, particao, particao.bytes - estimar(removida));
+        particao.snapshot = null;
+    }
+
+    /**
+     * Ajusta a memória estimada de um status, descartando-o se o limite for excedido.
+     *
+     * @return {@code false} se o status foi descartado
+     */
+    private boolean reservar(StatusTarefa status, Particao particao, long bytes) {
+        long memoria = memoriaUsada - particao.bytes + bytes;
+        if (memoria > memoriaMaxima) {
+            log.debug("Tarefas com status {} excedem o limite de memória do cache; status descartado", status);
+            descartar(status);
+            return false;
+        }
+        memoriaUsada = memoria;
+        particao.bytes = bytes;
+        return true;
+    }
+
+    private void descartar(StatusTarefa status) {
+        int indice = status.ordinal();
+        modificacoes.incrementAndGet(indice);
+        Particao atual = particoes.getAndSet(indice, null);
+        if (atual != null) {
+            memoriaUsada -= atual.bytes;
+        }
+    }
+
+    private static long estimar(List<TarefaResponseDTO> itens) {
+        long bytes = 0;
+        for (TarefaResponseDTO item : itens) {
+            bytes += estimar(item);
+        }
+        return bytes;
+    }
+
+    private static long estimar(TarefaResponseDTO tarefa) {
+        return BYTES_POR_TAREFA + estimar(tarefa.getTitulo()) + estimar(tarefa.getDescricao());
+    }
+
+    private static long estimar(String texto) {
+        return texto == null ? 0 : BYTES_POR_TEXTO + 2L * texto.length();
+    }
+
+    /**
+     * Tarefas de um status, sua estimativa de memória e o último snapshot lido.
+     * Alterada apenas sob a trava; o snapshot é lido sem travas.
+     */
+    private static final class Particao {
+
+        private final TreeSet<TarefaResponseDTO> ordenadas = new TreeSet<>(ORDEM);
+        private final Map<Long, TarefaResponseDTO> porId = new HashMap<>();
+        private long bytes;
+        private volatile List<TarefaResponseDTO> snapshot;
+
+        private Particao(List<TarefaResponseDTO> itens, long bytes) {
+            for (TarefaResponseDTO item : itens) {
+                ordenadas.add(item);
+                porId.put(item.getId(), item);
+            }
+            this.bytes = bytes;
+            this.snapshot = itens;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.stefanini.todolist.application.services;
+
+import com.stefanini.todolist.domain.entities.Tarefa;
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor da paginação keyset de tarefas.
+ *
+ * <p>Representa a posição {@code (dataCriacao, id)} do último registro entregue
+ * e é serializado como uma string Base64 URL-safe opaca para o cliente.</p>
+ *
+ * @param dataCriacao Data de criação do último registro da página
+ * @param id ID do último registro da página
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+public record CursorTarefa(LocalDateTime dataCriacao, Long id) {
+
+    private static final String SEPARADOR = "|";
+
+    /**
+     * Cria o cursor a partir da última tarefa de uma página.
+     *
+     * @param tarefa Última tarefa entregue
+     * @return Cursor posicionado na tarefa
+     */
+    public static CursorTarefa de(Tarefa tarefa) {
+        return new CursorTarefa(tarefa.getDataCriacao(), tarefa.getId());
+    }
+
+    /**
+     * Serializa o cursor em uma string opaca.
+     *
+     * @return Cursor codificado em Base64 URL-safe
+     */
+    public String codificar() {
+        String valor = dataCriacao + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstrói um cursor a partir da string recebida do cliente.
+     *
+     * @param cursor Cursor codificado
+     * @return Cursor decodificado
+     * @throws InvalidDataException se o cursor estiver malformado
+     */
+    public static CursorTarefa decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            if (separador <= 0) {
+                throw new InvalidDataException("Cursor de paginação inválido");
+            }
+            return new CursorTarefa(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.valueOf(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidDataException("Cursor de paginação inválido", ex);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.stefanini.todolist.application.services;
+
+import com.stefanini.todolist.application.dtos.EstatisticasTarefasDTO;
+
+/**
+ * Interface de serviço para as estatísticas de tarefas.
+ *
+ * <p>As quantidades por status são mantidas em memória e atualizadas de forma
+ * incremental, evitando consultas de contagem sobre a tabela a cada leitura.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+public interface EstatisticasService {
+
+    /**
+     * Obtém a quantidade de tarefas por status.
+     * A leitura não consulta o banco de dados.
+     *
+     * @return Quantidades por status e total
+     */
+    EstatisticasTarefasDTO obterEstatisticas();
+
+    /**
+     * Recalcula os contadores a partir do banco de dados.
+     */
+    void reconciliar();
+}
@@ -0,0 +1,125 @@
+package com.stefanini.todolist.application.services;
+
+import com.stefanini.todolist.application.dtos.EstatisticasTarefasDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.domain.projections.ContagemPorStatus;
+import com.stefanini.todolist.domain.repositories.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Implementação do serviço de estatísticas de tarefas.
+ *
+ * <p>Mantém um contador por {@link StatusTarefa}, que é:
+ * <ul>
+ *   <li>Carregado do banco na inicialização da aplicação</li>
+ *   <li>Atualizado de forma incremental a cada {@link TarefaEvento} confirmado</li>
+ *   <li>Reconciliado periodicamente com o banco, corrigindo eventuais divergências
+ *       causadas por alterações concorrentes à reconciliação ou feitas fora da aplicação</li>
+ * </ul>
+ * </p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EstatisticasServiceImpl implements EstatisticasService {
+
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+
+    private final TarefaRepository tarefaRepository;
+    private final AtomicLongArray contadores = new AtomicLongArray(STATUS.length);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EstatisticasTarefasDTO obterEstatisticas() {
+        Map<StatusTarefa, Long> porStatus = new EnumMap<>(StatusTarefa.class);
+        long total = 0;
+        for (StatusTarefa status : STATUS) {
+            long quantidade = contadores.get(status.ordinal());
+            porStatus.put(status, quantidade);
+            total += quantidade;
+        }
+
+        return EstatisticasTarefasDTO.builder()
+                .porStatus(porStatus)
+                .total(total)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Executado na inicialização e a cada
+     * {@code todolist.estatisticas.reconciliacao-ms} milissegundos.</p>
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${todolist.estatisticas.reconciliacao-ms:300000}",
+            initialDelayString = "${todolist.estatisticas.reconciliacao-ms:300000}")
+    public void reconciliar() {
+        long[] valores = new long[STATUS.length];
+        for (ContagemPorStatus contagem : tarefaRepository.countGroupByStatus()) {
+            valores[contagem.getStatus().ordinal()] = contagem.getTotal();
+        }
+
+        for (StatusTarefa status : STATUS) {
+            long anterior = contadores.getAndSet(status.ordinal(), valores[status.ordinal()]);
+            if (anterior != valores[status.ordinal()]) {
+                log.debug("Contador de {} reconciliado: {} -> {}", status, anterior, valores[status.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Atualiza os contadores após o commit de uma alteração de tarefa.
+     *
+     * @param evento Evento de alteração da tarefa
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaEvento evento) {
+        if (evento.statusAnterior() == evento.statusAtual()) {
+            return;
+        }
+        if (evento.statusAnterior() != null) {
+            contadores.decrementAndGet(evento.statusAnterior().ordinal());
+        }
+        if (evento.statusAtual() != null) {
+            contadores.incrementAndGet(evento.statusAtual().ordinal());
+        }
+    }
+
+    /**
+     * Atualiza os contadores após o commit de uma alteração de status em lote.
+     *
+     * <p>Quando o status de origem é conhecido, a quantidade alterada é movida entre
+     * os contadores; caso contrário, os contadores são reconciliados com o banco.</p>
+     *
+     * @param evento Evento de alteração em lote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarStatusEmLote(StatusAlteradoEmLoteEvento evento) {
+        if (evento.statusAnterior() == null) {
+            reconciliar();
+            return;
+        }
+        contadores.addAndGet(evento.statusAnterior().ordinal(), -evento.afetadas());
+        contadores.addAndGet(evento.novoStatus().ordinal(), evento.afetadas());
+    }
+}
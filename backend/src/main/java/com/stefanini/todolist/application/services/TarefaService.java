@@ -1,11 +1,19 @@
 package com.stefanini.todolist.application.services;
 
+import com.stefanini.todolist.application.dtos.AlteracaoStatusLoteDTO;
+import com.stefanini.todolist.application.dtos.AlteracaoStatusResultadoDTO;
+import com.stefanini.todolist.application.dtos.PaginaCursorDTO;
+import com.stefanini.todolist.application.dtos.ResultadoBuscaDTO;
+import com.stefanini.todolist.application.dtos.ResultadoLoteDTO;
 import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaPatchDTO;
 import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaResumoDTO;
 import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
 import com.stefanini.todolist.domain.enums.StatusTarefa;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interface de serviço para operações de negócio relacionadas a Tarefas.
@@ -30,6 +38,19 @@ public interface TarefaService {
      */
     TarefaResponseDTO criar(TarefaCreateDTO createDTO);
 
+    /**
+     * Cria várias tarefas em uma única transação, com INSERTs agrupados em lotes JDBC.
+     *
+     * <p>Cada item é validado individualmente: itens inválidos são reportados no
+     * resultado e os demais são criados.</p>
+     *
+     * @param createDTOs Dados das tarefas a serem criadas
+     * @return Tarefas criadas e falhas por item
+     * @throws com.stefanini.todolist.infrastructure.exceptions.InvalidDataException
+     *         se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    ResultadoLoteDTO criarEmLote(List<TarefaCreateDTO> createDTOs);
+
     /**
      * Busca uma tarefa por seu ID.
      *
@@ -48,13 +69,68 @@ public interface TarefaService {
     List<TarefaResponseDTO> listarTodas();
 
     /**
-     * Lista tarefas filtradas por status.
+     * Lista o resumo (sem descrição) de todas as tarefas.
+     *
+     * @return Lista com o resumo de todas as tarefas
+     */
+    List<TarefaResumoDTO> listarResumo();
+
+    /**
+     * Lista tarefas paginadas por cursor (keyset), da mais recente para a mais antiga.
+     *
+     * @param cursor Cursor retornado pela página anterior, ou {@code null} para a primeira página
+     * @param limite Quantidade máxima de tarefas na página
+     * @return Página de tarefas com o cursor da próxima página
+     * @throws com.stefanini.todolist.infrastructure.exceptions.InvalidDataException
+     *         se o cursor ou o limite forem inválidos
+     */
+    PaginaCursorDTO<TarefaResponseDTO> listarPaginado(String cursor, int limite);
+
+    /**
+     * Percorre todas as tarefas (ou apenas as de um status) sem materializar o resultado.
+     *
+     * <p>Cada tarefa é entregue ao consumidor assim que lida do banco e descartada
+     * em seguida, mantendo o uso de memória constante independentemente do volume.
+     * As tarefas são lidas como {@link TarefaResponseDTO} diretamente pela consulta,
+     * sem carregar entidades no contexto de persistência.</p>
+     *
+     * @param status Status para filtrar, ou {@code null} para todas as tarefas
+     * @param consumidor Consumidor que recebe cada tarefa
+     */
+    void exportar(StatusTarefa status, Consumer<TarefaResponseDTO> consumidor);
+
+    /**
+     * Lista tarefas filtradas por status, da mais recente para a mais antiga.
      *
      * @param status Status das tarefas a serem listadas
      * @return Lista de tarefas com o status especificado
      */
     List<TarefaResponseDTO> listarPorStatus(StatusTarefa status);
 
+    /**
+     * Lista o resumo (sem descrição) das tarefas com um determinado status.
+     *
+     * @param status Status das tarefas a serem listadas
+     * @return Lista com o resumo das tarefas com o status especificado
+     */
+    List<TarefaResumoDTO> listarResumoPorStatus(StatusTarefa status);
+
+    /**
+     * Busca tarefas por texto no título e na descrição, ordenadas por relevância.
+     *
+     * <p>A busca usa um índice textual: todos os termos informados devem estar
+     * presentes, variações de plural e acentuação são consideradas e ocorrências
+     * no título pesam mais que na descrição.</p>
+     *
+     * @param termo Texto a ser buscado
+     * @param pagina Número da página (começando em zero)
+     * @param tamanho Quantidade máxima de tarefas por página
+     * @return Página de tarefas encontradas e total encontrado
+     * @throws com.stefanini.todolist.infrastructure.exceptions.InvalidDataException
+     *         se o termo estiver vazio ou a página estiver fora dos limites
+     */
+    ResultadoBuscaDTO buscar(String termo, int pagina, int tamanho);
+
     /**
      * Atualiza os dados de uma tarefa existente.
      *
@@ -66,6 +142,35 @@ public interface TarefaService {
      */
     TarefaResponseDTO atualizar(Long id, TarefaUpdateDTO updateDTO);
 
+    /**
+     * Atualiza apenas os campos informados de uma tarefa.
+     *
+     * <p>A alteração só é aplicada se a versão informada corresponder à versão
+     * atual da tarefa, e o UPDATE inclui apenas as colunas alteradas.</p>
+     *
+     * @param id Identificador único da tarefa
+     * @param patchDTO Campos a alterar e versão conhecida pelo cliente
+     * @return DTO com os dados da tarefa atualizada, incluindo a nova versão
+     * @throws com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException
+     *         se a tarefa não for encontrada
+     * @throws com.stefanini.todolist.infrastructure.exceptions.VersionConflictException
+     *         se a versão informada estiver desatualizada
+     */
+    TarefaResponseDTO atualizarParcialmente(Long id, TarefaPatchDTO patchDTO);
+
+    /**
+     * Altera o status de várias tarefas em uma única instrução UPDATE.
+     *
+     * <p>As tarefas são selecionadas por IDs ou por filtro (status atual e/ou
+     * período de criação). A data de atualização das tarefas alteradas é registrada.</p>
+     *
+     * @param alteracaoDTO Seleção das tarefas e novo status
+     * @return Quantidade de tarefas alteradas
+     * @throws com.stefanini.todolist.infrastructure.exceptions.InvalidDataException
+     *         se a seleção estiver vazia, combinar IDs e filtros ou exceder o tamanho máximo
+     */
+    AlteracaoStatusResultadoDTO alterarStatusEmLote(AlteracaoStatusLoteDTO alteracaoDTO);
+
     /**
      * Remove uma tarefa do sistema.
      *
@@ -1,20 +1,54 @@
 package com.stefanini.todolist.application.services;
 
+import com.stefanini.todolist.application.dtos.AlteracaoStatusLoteDTO;
+import com.stefanini.todolist.application.dtos.AlteracaoStatusResultadoDTO;
+import com.stefanini.todolist.application.dtos.PaginaCursorDTO;
+import com.stefanini.todolist.application.dtos.ResultadoBuscaDTO;
+import com.stefanini.todolist.application.dtos.ResultadoLoteDTO;
 import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaPatchDTO;
 import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaResumoDTO;
 import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.application.mappers.TarefaMapper;
 import com.stefanini.todolist.domain.entities.Tarefa;
 import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.domain.projections.EstadoTarefa;
 import com.stefanini.todolist.domain.repositories.TarefaRepository;
+import com.stefanini.todolist.infrastructure.config.CacheConfig;
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
 import com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException;
+import com.stefanini.todolist.infrastructure.exceptions.VersionConflictException;
+import com.stefanini.todolist.infrastructure.search.IndiceBuscaTarefas;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementação do serviço de Tarefas.
@@ -42,8 +76,41 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TarefaServiceImpl implements TarefaService {
 
+    /**
+     * Tamanho máximo de página aceito na listagem paginada.
+     */
+    public static final int LIMITE_MAXIMO_PAGINA = 500;
+
+    /**
+     * Tamanho máximo de página aceito na busca textual.
+     */
+    public static final int TAMANHO_MAXIMO_BUSCA = 100;
+
+    /**
+     * Quantidade máxima de resultados da busca textual que podem ser paginados.
+     */
+    public static final int JANELA_MAXIMA_BUSCA = 1000;
+
     private final TarefaRepository tarefaRepository;
-    private final ModelMapper modelMapper;
+    private final TarefaMapper tarefaMapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final IndiceBuscaTarefas indiceBusca;
+    private final CacheManager cacheManager;
+    private final CacheTarefasPorStatus cacheTarefasPorStatus;
+
+    /**
+     * Quantidade máxima de tarefas aceitas em um lote.
+     */
+    @Value("${todolist.lote.tamanho-maximo:1000}")
+    private int tamanhoMaximoLote;
+
+    /**
+     * Quantidade de INSERTs enviados por lote JDBC (mesmo valor usado pelo Hibernate).
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int tamanhoBatch;
 
     /**
      * {@inheritDoc}
@@ -51,9 +118,9 @@ public class TarefaServiceImpl implements TarefaService {
     @Override
     @Transactional
     public TarefaResponseDTO criar(TarefaCreateDTO createDTO) {
-        log.info("Criando nova tarefa com título: {}", createDTO.getTitulo());
+        log.debug("Criando nova tarefa com título: {}", createDTO.getTitulo());
 
-        Tarefa tarefa = modelMapper.map(createDTO, Tarefa.class);
+        Tarefa tarefa = tarefaMapper.toEntity(createDTO);
 
         // Se o status não foi informado, define como PENDENTE
         if (tarefa.getStatus() == null) {
@@ -61,17 +128,82 @@ public class TarefaServiceImpl implements TarefaService {
         }
 
         Tarefa tarefaSalva = tarefaRepository.save(tarefa);
-        log.info("Tarefa criada com sucesso. ID: {}", tarefaSalva.getId());
+        log.debug("Tarefa criada com sucesso. ID: {}", tarefaSalva.getId());
 
-        return modelMapper.map(tarefaSalva, TarefaResponseDTO.class);
+        TarefaResponseDTO response = tarefaMapper.toResponseDTO(tarefaSalva);
+        eventPublisher.publishEvent(TarefaEvento.criada(response));
+        return response;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>O contexto de persistência é descarregado e limpo a cada
+     * {@code hibernate.jdbc.batch_size} tarefas, mantendo a memória constante
+     * e enviando cada grupo de INSERTs em um único lote JDBC.</p>
      */
     @Override
+    @Transactional
+    public ResultadoLoteDTO criarEmLote(List<TarefaCreateDTO> createDTOs) {
+        if (createDTOs == null || createDTOs.isEmpty()) {
+            throw new InvalidDataException("O lote deve conter ao menos uma tarefa");
+        }
+        if (createDTOs.size() > tamanhoMaximoLote) {
+            throw new InvalidDataException(
+                    "O lote deve conter no máximo " + tamanhoMaximoLote + " tarefas");
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Criando lote de {} tarefas", createDTOs.size());
+        }
+
+        List<TarefaResponseDTO> criadas = new ArrayList<>(createDTOs.size());
+        List<ResultadoLoteDTO.Falha> falhas = new ArrayList<>();
+        List<Tarefa> pendentes = new ArrayList<>(tamanhoBatch);
+
+        for (int indice = 0; indice < createDTOs.size(); indice++) {
+            TarefaCreateDTO createDTO = createDTOs.get(indice);
+            List<String> erros = validarItemLote(createDTO);
+            if (!erros.isEmpty()) {
+                falhas.add(new ResultadoLoteDTO.Falha(indice, erros));
+                continue;
+            }
+
+            Tarefa tarefa = tarefaMapper.toEntity(createDTO);
+            if (tarefa.getStatus() == null) {
+                tarefa.setStatus(StatusTarefa.PENDENTE);
+            }
+            pendentes.add(tarefaRepository.save(tarefa));
+
+            if (pendentes.size() >= tamanhoBatch) {
+                descarregarLote(pendentes, criadas);
+            }
+        }
+        descarregarLote(pendentes, criadas);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Lote processado. Criadas: {}, rejeitadas: {}", criadas.size(), falhas.size());
+        }
+
+        return ResultadoLoteDTO.builder()
+                .totalRecebido(createDTOs.size())
+                .totalCriado(criadas.size())
+                .criadas(criadas)
+                .falhas(falhas)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>O resultado é mantido no cache {@link CacheConfig#CACHE_TAREFAS}. A inclusão
+     * ocorre após o commit e é descartada se uma atualização concorrente já tiver
+     * gravado uma versão mais recente.</p>
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     public TarefaResponseDTO buscarPorId(Long id) {
-        log.info("Buscando tarefa por ID: {}", id);
+        log.debug("Buscando tarefa por ID: {}", id);
 
         Tarefa tarefa = tarefaRepository.findById(id)
                 .orElseThrow(() -> {
@@ -79,7 +211,7 @@ public class TarefaServiceImpl implements TarefaService {
                     return new ResourceNotFoundException("Tarefa não encontrada com ID: " + id);
                 });
 
-        return modelMapper.map(tarefa, TarefaResponseDTO.class);
+        return tarefaMapper.toResponseDTO(tarefa);
     }
 
     /**
@@ -87,13 +219,15 @@ public class TarefaServiceImpl implements TarefaService {
      */
     @Override
     public List<TarefaResponseDTO> listarTodas() {
-        log.info("Listando todas as tarefas");
+        log.debug("Listando todas as tarefas");
 
         List<Tarefa> tarefas = tarefaRepository.findAllOrderByDataCriacaoDesc();
-        log.info("Total de tarefas encontradas: {}", tarefas.size());
+        if (log.isDebugEnabled()) {
+            log.debug("Total de tarefas encontradas: {}", tarefas.size());
+        }
 
         return tarefas.stream()
-                .map(tarefa -> modelMapper.map(tarefa, TarefaResponseDTO.class))
+                .map(tarefaMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -101,24 +235,186 @@ public class TarefaServiceImpl implements TarefaService {
      * {@inheritDoc}
      */
     @Override
+    public List<TarefaResumoDTO> listarResumo() {
+        log.debug("Listando resumo de todas as tarefas");
+        return tarefaRepository.findResumoOrderByDataCriacaoDesc();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PaginaCursorDTO<TarefaResponseDTO> listarPaginado(String cursor, int limite) {
+        if (log.isDebugEnabled()) {
+            log.debug("Listando tarefas paginadas. Limite: {}", limite);
+        }
+
+        if (limite < 1 || limite > LIMITE_MAXIMO_PAGINA) {
+            throw new InvalidDataException(
+                    "O limite da página deve estar entre 1 e " + LIMITE_MAXIMO_PAGINA);
+        }
+
+        // Busca um registro a mais para saber se existe próxima página
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        List<Tarefa> tarefas;
+        if (cursor == null || cursor.isBlank()) {
+            tarefas = tarefaRepository.findPrimeiraPagina(pagina);
+        } else {
+            CursorTarefa posicao = CursorTarefa.decodificar(cursor);
+            tarefas = tarefaRepository.findPaginaApos(posicao.dataCriacao(), posicao.id(), pagina);
+        }
+
+        boolean possuiProxima = tarefas.size() > limite;
+        List<Tarefa> itens = possuiProxima ? tarefas.subList(0, limite) : tarefas;
+        String proximoCursor = possuiProxima
+                ? CursorTarefa.de(itens.get(itens.size() - 1)).codificar()
+                : null;
+
+        return PaginaCursorDTO.<TarefaResponseDTO>builder()
+                .itens(itens.stream()
+                        .map(tarefaMapper::toResponseDTO)
+                        .collect(Collectors.toList()))
+                .proximoCursor(proximoCursor)
+                .tamanho(itens.size())
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void exportar(StatusTarefa status, Consumer<TarefaResponseDTO> consumidor) {
+        log.debug("Exportando tarefas. Status: {}", status != null ? status : "TODOS");
+
+        try (Stream<TarefaResponseDTO> tarefas = status == null
+                ? tarefaRepository.streamResponseAll()
+                : tarefaRepository.streamResponseByStatus(status)) {
+            tarefas.forEach(consumidor);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<TarefaResponseDTO> listarPorStatus(StatusTarefa status) {
-        log.info("Listando tarefas por status: {}", status);
+        log.debug("Listando tarefas por status: {}", status);
 
-        List<Tarefa> tarefas = tarefaRepository.findByStatus(status);
-        log.info("Total de tarefas encontradas com status {}: {}", status, tarefas.size());
+        // Sem transação própria: um acerto no cache não deve ocupar uma conexão
+        List<TarefaResponseDTO> emCache = cacheTarefasPorStatus.obter(status);
+        if (emCache != null) {
+            return emCache;
+        }
 
-        return tarefas.stream()
-                .map(tarefa -> modelMapper.map(tarefa, TarefaResponseDTO.class))
+        long marca = cacheTarefasPorStatus.marca(status);
+        List<Tarefa> tarefas = tarefaRepository.findByStatusOrderByDataCriacaoDescIdDesc(status);
+        if (log.isDebugEnabled()) {
+            log.debug("Total de tarefas encontradas com status {}: {}", status, tarefas.size());
+        }
+
+        List<TarefaResponseDTO> resultado = tarefas.stream()
+                .map(tarefaMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        cacheTarefasPorStatus.armazenar(status, marca, resultado);
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TarefaResumoDTO> listarResumoPorStatus(StatusTarefa status) {
+        log.debug("Listando resumo de tarefas por status: {}", status);
+        return tarefaRepository.findResumoByStatus(status);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>O índice textual retorna os IDs da página em ordem de relevância; as
+     * tarefas são carregadas pela chave primária e reordenadas conforme o índice.</p>
+     */
+    @Override
+    public ResultadoBuscaDTO buscar(String termo, int pagina, int tamanho) {
+        log.debug("Buscando tarefas pelo termo: {}", termo);
+
+        if (termo == null || termo.isBlank()) {
+            throw new InvalidDataException("O termo de busca é obrigatório");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_BUSCA) {
+            throw new InvalidDataException(
+                    "O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_BUSCA);
+        }
+        if (pagina < 0 || (long) (pagina + 1) * tamanho > JANELA_MAXIMA_BUSCA) {
+            throw new InvalidDataException(
+                    "A busca permite consultar apenas os " + JANELA_MAXIMA_BUSCA + " primeiros resultados");
+        }
+
+        IndiceBuscaTarefas.ResultadoBusca resultado = indiceBusca.buscar(termo, pagina * tamanho, tamanho);
+
+        Map<Long, Tarefa> tarefasPorId = tarefaRepository.findAllById(resultado.ids()).stream()
+                .collect(Collectors.toMap(Tarefa::getId, Function.identity()));
+
+        // Mantém a ordem de relevância; IDs removidos após a indexação são ignorados
+        List<TarefaResponseDTO> itens = resultado.ids().stream()
+                .map(tarefasPorId::get)
+                .filter(Objects::nonNull)
+                .map(tarefaMapper::toResponseDTO)
                 .collect(Collectors.toList());
+
+        if (log.isDebugEnabled()) {
+            log.debug("Total de tarefas encontradas para o termo {}: {}", termo, resultado.total());
+        }
+
+        return ResultadoBuscaDTO.builder()
+                .itens(itens)
+                .totalEncontrado(resultado.total())
+                .pagina(pagina)
+                .tamanho(tamanho)
+                .build();
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Otimização para tarefas em cache: a atualização é feita por um único UPDATE
+     * condicionado à versão em cache, sem leitura prévia. Fora do cache, ou com a
+     * versão em cache desatualizada, a tarefa é lida pela chave primária e
+     * atualizada com a verificação de versão do Hibernate; essa leitura fornece a
+     * data de criação da resposta e o status anterior do evento.</p>
+     *
+     * <p>A entrada do cache é substituída pela versão atualizada após o commit.</p>
      */
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     public TarefaResponseDTO atualizar(Long id, TarefaUpdateDTO updateDTO) {
-        log.info("Atualizando tarefa com ID: {}", id);
+        log.debug("Atualizando tarefa com ID: {}", id);
+
+        // Caminho rápido: com a tarefa em cache, um único UPDATE condicionado à versão
+        TarefaResponseDTO emCache = tarefaEmCache(id);
+        if (emCache != null) {
+            StatusTarefa novoStatus = updateDTO.getStatus() != null ? updateDTO.getStatus() : emCache.getStatus();
+            LocalDateTime agora = LocalDateTime.now();
+            int alteradas = tarefaRepository.updateRowByIdAndVersao(id, emCache.getVersao(),
+                    updateDTO.getTitulo(), updateDTO.getDescricao(), novoStatus, agora);
+            if (alteradas == 1) {
+                log.debug("Tarefa atualizada com sucesso. ID: {}", id);
+                TarefaResponseDTO response = TarefaResponseDTO.builder()
+                        .id(id)
+                        .titulo(updateDTO.getTitulo())
+                        .descricao(updateDTO.getDescricao())
+                        .status(novoStatus)
+                        .dataCriacao(emCache.getDataCriacao())
+                        .dataAtualizacao(agora)
+                        .versao(emCache.getVersao() + 1)
+                        .build();
+                eventPublisher.publishEvent(TarefaEvento.atualizada(emCache.getStatus(), response));
+                return response;
+            }
+            log.debug("Versão em cache da tarefa {} desatualizada; atualizando a partir do banco", id);
+        }
 
         Tarefa tarefaExistente = tarefaRepository.findById(id)
                 .orElseThrow(() -> {
@@ -126,35 +422,195 @@ public class TarefaServiceImpl implements TarefaService {
                     return new ResourceNotFoundException("Tarefa não encontrada com ID: " + id);
                 });
 
-        // Atualiza os campos
-        tarefaExistente.setTitulo(updateDTO.getTitulo());
-        tarefaExistente.setDescricao(updateDTO.getDescricao());
+        StatusTarefa statusAnterior = tarefaExistente.getStatus();
+
+        // Atualiza os campos (o status só é alterado quando informado)
+        tarefaMapper.atualizar(updateDTO, tarefaExistente);
 
-        if (updateDTO.getStatus() != null) {
-            tarefaExistente.setStatus(updateDTO.getStatus());
+        // O flush aplica a versão e a data de atualização antes do mapeamento
+        Tarefa tarefaAtualizada = tarefaRepository.saveAndFlush(tarefaExistente);
+        log.debug("Tarefa atualizada com sucesso. ID: {}", tarefaAtualizada.getId());
+
+        TarefaResponseDTO response = tarefaMapper.toResponseDTO(tarefaAtualizada);
+        eventPublisher.publishEvent(TarefaEvento.atualizada(statusAnterior, response));
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A versão é conferida na leitura e novamente pelo Hibernate no UPDATE
+     * ({@code WHERE versao = ?}); alterações concorrentes entre a leitura e a
+     * gravação resultam em {@link org.springframework.dao.OptimisticLockingFailureException}.</p>
+     */
+    @Override
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
+    public TarefaResponseDTO atualizarParcialmente(Long id, TarefaPatchDTO patchDTO) {
+        log.debug("Atualizando parcialmente tarefa com ID: {}", id);
+
+        Tarefa tarefaExistente = tarefaRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Tarefa não encontrada com ID: {}", id);
+                    return new ResourceNotFoundException("Tarefa não encontrada com ID: " + id);
+                });
+
+        if (!tarefaExistente.getVersao().equals(patchDTO.getVersao())) {
+            log.warn("Versão desatualizada da tarefa {}: informada {}, atual {}",
+                    id, patchDTO.getVersao(), tarefaExistente.getVersao());
+            throw new VersionConflictException(String.format(
+                    "A tarefa %d foi alterada por outra requisição (versão atual: %d)",
+                    id, tarefaExistente.getVersao()));
         }
 
-        Tarefa tarefaAtualizada = tarefaRepository.save(tarefaExistente);
-        log.info("Tarefa atualizada com sucesso. ID: {}", tarefaAtualizada.getId());
+        StatusTarefa statusAnterior = tarefaExistente.getStatus();
+
+        tarefaMapper.aplicar(patchDTO, tarefaExistente);
 
-        return modelMapper.map(tarefaAtualizada, TarefaResponseDTO.class);
+        Tarefa tarefaAtualizada = tarefaRepository.saveAndFlush(tarefaExistente);
+        log.debug("Tarefa atualizada parcialmente com sucesso. ID: {}", tarefaAtualizada.getId());
+
+        TarefaResponseDTO response = tarefaMapper.toResponseDTO(tarefaAtualizada);
+        eventPublisher.publishEvent(TarefaEvento.atualizada(statusAnterior, response));
+        return response;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Como as tarefas não são carregadas, todo o cache de tarefas por ID é
+     * invalidado após o commit.</p>
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TAREFAS, allEntries = true)
+    public AlteracaoStatusResultadoDTO alterarStatusEmLote(AlteracaoStatusLoteDTO alteracaoDTO) {
+        boolean porIds = alteracaoDTO.getIds() != null && !alteracaoDTO.getIds().isEmpty();
+        boolean porFiltro = alteracaoDTO.getStatusAtual() != null
+                || alteracaoDTO.getCriadaDe() != null
+                || alteracaoDTO.getCriadaAte() != null;
+
+        if (porIds == porFiltro) {
+            throw new InvalidDataException("Informe os IDs das tarefas ou ao menos um critério de filtro, mas não ambos");
+        }
+        if (porIds && alteracaoDTO.getIds().size() > tamanhoMaximoLote) {
+            throw new InvalidDataException(
+                    "A alteração por IDs aceita no máximo " + tamanhoMaximoLote + " tarefas");
+        }
+
+        log.debug("Alterando status em lote para {}", alteracaoDTO.getNovoStatus());
+
+        LocalDateTime agora = LocalDateTime.now();
+        int afetadas = porIds
+                ? tarefaRepository.updateStatusByIds(alteracaoDTO.getIds(), alteracaoDTO.getNovoStatus(), agora)
+                : tarefaRepository.updateStatusByFiltro(
+                        alteracaoDTO.getStatusAtual(),
+                        alteracaoDTO.getCriadaDe(),
+                        alteracaoDTO.getCriadaAte(),
+                        alteracaoDTO.getNovoStatus(),
+                        agora);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Status alterado em lote. Tarefas afetadas: {}", afetadas);
+        }
+
+        if (afetadas > 0) {
+            eventPublisher.publishEvent(new StatusAlteradoEmLoteEvento(
+                    porIds ? List.copyOf(alteracaoDTO.getIds()) : null,
+                    alteracaoDTO.getStatusAtual(),
+                    alteracaoDTO.getNovoStatus(),
+                    afetadas));
+        }
+
+        return AlteracaoStatusResultadoDTO.builder()
+                .novoStatus(alteracaoDTO.getNovoStatus())
+                .afetadas(afetadas)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A remoção é feita por um DELETE condicionado à versão, sem carregar a
+     * entidade. A versão e o status removido vêm do cache ou, na sua ausência,
+     * de uma leitura apenas dessas colunas pela chave primária; assim o evento
+     * sempre informa o status removido. Se a tarefa for alterada entre a leitura
+     * e o DELETE, o estado é lido novamente. A entrada do cache é removida após
+     * o commit.</p>
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     public void deletar(Long id) {
-        log.info("Deletando tarefa com ID: {}", id);
+        log.debug("Deletando tarefa com ID: {}", id);
 
-        if (!tarefaRepository.existsById(id)) {
-            log.warn("Tarefa não encontrada com ID: {}", id);
-            throw new ResourceNotFoundException("Tarefa não encontrada com ID: " + id);
+        // Com a tarefa em cache, o status removido é conhecido sem consultar o banco
+        TarefaResponseDTO emCache = tarefaEmCache(id);
+        StatusTarefa statusAnterior = emCache != null ? emCache.getStatus() : null;
+        Long versao = emCache != null ? emCache.getVersao() : null;
+
+        while (versao == null || tarefaRepository.deleteRowByIdAndVersao(id, versao) == 0) {
+            EstadoTarefa estado = tarefaRepository.findEstadoById(id)
+                    .orElseThrow(() -> {
+                        log.warn("Tarefa não encontrada com ID: {}", id);
+                        return new ResourceNotFoundException("Tarefa não encontrada com ID: " + id);
+                    });
+            statusAnterior = estado.getStatus();
+            versao = estado.getVersao();
         }
+        log.debug("Tarefa deletada com sucesso. ID: {}", id);
 
-        tarefaRepository.deleteById(id);
-        log.info("Tarefa deletada com sucesso. ID: {}", id);
+        eventPublisher.publishEvent(TarefaEvento.removida(id, statusAnterior));
     }
-}
 
+    /**
+     * Lê a tarefa do cache, sem consultar o banco.
+     *
+     * @param id ID da tarefa
+     * @return Tarefa em cache, ou {@code null} se ausente
+     */
+    private TarefaResponseDTO tarefaEmCache(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.CACHE_TAREFAS);
+        return cache != null ? cache.get(id, TarefaResponseDTO.class) : null;
+    }
+
+    /**
+     * Valida um item do lote com as mesmas regras de {@link TarefaCreateDTO}.
+     *
+     * @param createDTO Item a ser validado
+     * @return Mensagens de erro no formato "campo: mensagem" (vazia se válido)
+     */
+    private List<String> validarItemLote(TarefaCreateDTO createDTO) {
+        if (createDTO == null) {
+            return List.of("A tarefa não pode ser nula");
+        }
+
+        Set<ConstraintViolation<TarefaCreateDTO>> violacoes = validator.validate(createDTO);
+        return violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Envia ao banco os INSERTs pendentes em um único lote e libera as entidades
+     * do contexto de persistência.
+     *
+     * @param pendentes Tarefas persistidas ainda não enviadas ao banco
+     * @param criadas Lista que recebe as tarefas criadas
+     */
+    private void descarregarLote(List<Tarefa> pendentes, List<TarefaResponseDTO> criadas) {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        entityManager.flush();
+        for (Tarefa tarefa : pendentes) {
+            TarefaResponseDTO response = tarefaMapper.toResponseDTO(tarefa);
+            criadas.add(response);
+            eventPublisher.publishEvent(TarefaEvento.criada(response));
+        }
+        pendentes.clear();
+        entityManager.clear();
+    }
+}
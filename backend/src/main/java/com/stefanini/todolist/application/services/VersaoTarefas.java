@@ -0,0 +1,138 @@
+package com.stefanini.todolist.application.services;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores de modificação das tarefas, usados para gerar ETags.
+ *
+ * <p>Mantém um contador global e um por {@link StatusTarefa}, incrementados após
+ * o commit de cada alteração feita pelo {@link TarefaService}. As ETags das
+ * listagens combinam o contador com o instante de inicialização da aplicação,
+ * de modo que uma reinicialização nunca reutilize uma ETag anterior.</p>
+ *
+ * <p>Os contadores devem ser lidos <b>antes</b> da consulta ao banco: se uma
+ * alteração for confirmada entre a leitura e a consulta, a resposta recebe a
+ * ETag antiga e o cliente apenas receberá os dados novamente na próxima
+ * requisição, nunca uma resposta desatualizada.</p>
+ *
+ * <p>As ETags das listagens e das tarefas são fracas ({@code W/}): a mesma versão pode
+ * ser enviada em JSON, CBOR ou Smile e com ou sem compressão gzip, representações
+ * equivalentes que não são idênticas byte a byte. O Tomcat também só comprime
+ * respostas com ETag fraca. Como a ETag não distingue o formato, as respostas
+ * levam {@code Vary: Accept}.</p>
+ *
+ * <p>Alterações feitas diretamente no banco, fora da aplicação, não são percebidas.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+public class VersaoTarefas {
+
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+
+    private final String inicializacao = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong global = new AtomicLong();
+    private final AtomicLongArray porStatus = new AtomicLongArray(STATUS.length);
+
+    /**
+     * ETag da listagem de todas as tarefas.
+     *
+     * @return ETag fraca
+     */
+    public String etagTodas() {
+        return "W/\"" + inicializacao + "-" + global.get() + "\"";
+    }
+
+    /**
+     * ETag da listagem de tarefas de um status.
+     *
+     * @param status Status da listagem
+     * @return ETag fraca
+     */
+    public String etagPorStatus(StatusTarefa status) {
+        return "W/\"" + inicializacao + "-" + status.name() + "-" + porStatus.get(status.ordinal()) + "\"";
+    }
+
+    /**
+     * ETag da representação resumida ({@code view=summary}) de uma listagem.
+     *
+     * @param etagListagem ETag da listagem completa
+     * @return ETag distinta da listagem completa
+     */
+    public static String etagResumo(String etagListagem) {
+        return etagVariante(etagListagem, "resumo");
+    }
+
+    /**
+     * ETag da representação colunar de uma listagem.
+     *
+     * @param etagListagem ETag da listagem completa
+     * @return ETag distinta da listagem completa
+     */
+    public static String etagColunar(String etagListagem) {
+        return etagVariante(etagListagem, "colunar");
+    }
+
+    /**
+     * ETag de uma tarefa, derivada da sua versão.
+     *
+     * @param tarefa Tarefa
+     * @return ETag fraca
+     */
+    public static String etagTarefa(TarefaResponseDTO tarefa) {
+        return "W/\"" + tarefa.getId() + "-" + tarefa.getVersao() + "\"";
+    }
+
+    /**
+     * Registra a alteração de uma tarefa após o commit.
+     *
+     * @param evento Evento de alteração da tarefa
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaEvento evento) {
+        global.incrementAndGet();
+        incrementar(evento.statusAnterior());
+        if (evento.statusAtual() != evento.statusAnterior()) {
+            incrementar(evento.statusAtual());
+        }
+    }
+
+    /**
+     * Registra a alteração de status em lote após o commit.
+     * Quando o status de origem não é conhecido, todas as listagens por status são invalidadas.
+     *
+     * @param evento Evento de alteração em lote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarStatusEmLote(StatusAlteradoEmLoteEvento evento) {
+        global.incrementAndGet();
+        if (evento.statusAnterior() == null) {
+            for (StatusTarefa status : STATUS) {
+                incrementar(status);
+            }
+        } else {
+            incrementar(evento.statusAnterior());
+            incrementar(evento.novoStatus());
+        }
+    }
+
+    private void incrementar(StatusTarefa status) {
+        if (status != null) {
+            porStatus.incrementAndGet(status.ordinal());
+        }
+    }
+
+    private static String etagVariante(String etagListagem, String variante) {
+        return etagListagem.substring(0, etagListagem.length() - 1) + "-" + variante + "\"";
+    }
+}
@@ -0,0 +1,69 @@
+package com.stefanini.todolist.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade que registra uma {@code Idempotency-Key} já processada na criação de tarefas.
+ *
+ * <p>É gravada na mesma transação da tarefa criada, de modo que uma repetição
+ * da requisição, mesmo após uma reinicialização, devolva a resposta original
+ * em vez de criar outra tarefa.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Entity
+@Table(name = "chaves_idempotencia")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "chave")
+@ToString
+public class ChaveIdempotencia {
+
+    /**
+     * Valor do cabeçalho {@code Idempotency-Key}.
+     */
+    @Id
+    @Column(name = "chave", length = 255)
+    private String chave;
+
+    /**
+     * Impressão digital do corpo da requisição original (SHA-256 em hexadecimal).
+     */
+    @Column(name = "impressao", nullable = false, length = 64)
+    private String impressao;
+
+    /**
+     * ID da tarefa criada pela requisição original.
+     */
+    @Column(name = "tarefa_id", nullable = false)
+    private Long tarefaId;
+
+    /**
+     * Status HTTP da resposta original ({@code null} em chaves gravadas antes da V8).
+     */
+    @Column(name = "status_resposta")
+    private Integer statusResposta;
+
+    /**
+     * Corpo JSON da resposta original ({@code null} em chaves gravadas antes da V8).
+     */
+    @Lob
+    @Column(name = "corpo_resposta")
+    private String corpoResposta;
+
+    /**
+     * Data e hora do registro, usada na remoção das chaves expiradas.
+     */
+    @CreationTimestamp
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao;
+}
@@ -4,6 +4,7 @@ import com.stefanini.todolist.domain.enums.StatusTarefa;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,10 @@ import java.time.LocalDateTime;
  * todas as informações relacionadas a uma tarefa, incluindo título, descrição,
  * datas de criação/atualização e status atual.</p>
  *
+ * <p>Os UPDATEs incluem apenas as colunas alteradas ({@code @DynamicUpdate}) e
+ * são condicionados à versão lida ({@code @Version}), rejeitando alterações
+ * concorrentes sem bloquear a linha durante a edição.</p>
+ *
  * <p>Utiliza anotações do Lombok para geração automática de getters, setters,
  * construtores e outros métodos utilitários.</p>
  *
@@ -24,6 +29,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "tarefas")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,10 +41,12 @@ public class Tarefa {
 
     /**
      * Identificador único da tarefa.
-     * Gerado automaticamente pelo banco de dados.
+     * Gerado pelo sequence {@code tarefas_seq}, reservando blocos de 50 IDs
+     * por acesso, o que permite agrupar os INSERTs em lotes JDBC.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefas_seq")
+    @SequenceGenerator(name = "tarefas_seq", sequenceName = "tarefas_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -82,6 +90,16 @@ public class Tarefa {
     @Builder.Default
     private StatusTarefa status = StatusTarefa.PENDENTE;
 
+    /**
+     * Versão da tarefa, para controle de concorrência otimista.
+     * Incrementada pelo Hibernate a cada alteração; também identifica o
+     * estado da tarefa nas requisições condicionais (ETag).
+     * Nula até a tarefa ser persistida.
+     */
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
     /**
      * Método executado antes de persistir a entidade.
      * Garante que o status padrão seja PENDENTE se não foi definido.
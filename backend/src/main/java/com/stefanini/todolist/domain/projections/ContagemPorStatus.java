@@ -0,0 +1,23 @@
+package com.stefanini.todolist.domain.projections;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+
+/**
+ * Projeção com a quantidade de tarefas de um status.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+public interface ContagemPorStatus {
+
+    /**
+     * @return Status contado
+     */
+    StatusTarefa getStatus();
+
+    /**
+     * @return Quantidade de tarefas com o status
+     */
+    Long getTotal();
+}
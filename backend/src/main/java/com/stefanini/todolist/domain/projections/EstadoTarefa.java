@@ -0,0 +1,23 @@
+package com.stefanini.todolist.domain.projections;
+
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+
+/**
+ * Projeção com o status e a versão atuais de uma tarefa.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public interface EstadoTarefa {
+
+    /**
+     * @return Status atual da tarefa
+     */
+    StatusTarefa getStatus();
+
+    /**
+     * @return Versão atual da tarefa
+     */
+    Long getVersao();
+}
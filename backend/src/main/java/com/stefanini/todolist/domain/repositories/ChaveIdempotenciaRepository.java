@@ -0,0 +1,31 @@
+package com.stefanini.todolist.domain.repositories;
+
+import com.stefanini.todolist.domain.entities.ChaveIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório para operações de persistência da entidade {@link ChaveIdempotencia}.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, String> {
+
+    /**
+     * Remove, em um único DELETE, as chaves registradas antes do limite informado.
+     *
+     * @param limite Data e hora limite
+     * @return Quantidade de chaves removidas
+     */
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.dataCriacao < :limite")
+    int deleteByDataCriacaoBefore(@Param("limite") LocalDateTime limite);
+}
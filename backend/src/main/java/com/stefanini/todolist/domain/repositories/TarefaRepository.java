@@ -1,14 +1,26 @@
 package com.stefanini.todolist.domain.repositories;
 
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaResumoDTO;
 import com.stefanini.todolist.domain.entities.Tarefa;
 import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.domain.projections.ContagemPorStatus;
+import com.stefanini.todolist.domain.projections.EstadoTarefa;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência da entidade {@link Tarefa}.
@@ -27,12 +39,20 @@ import java.util.List;
 public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
 
     /**
-     * Busca todas as tarefas com um determinado status.
+     * Quantidade de linhas buscadas por ida ao banco nas consultas em stream.
+     */
+    String FETCH_SIZE_STREAM = "500";
+
+    /**
+     * Busca todas as tarefas com um determinado status, da mais recente para a mais antiga.
+     *
+     * <p>A ordenação por {@code (dataCriacao, id)} é atendida pelo índice
+     * {@code idx_tarefas_status_data_criacao}, em uma leitura de faixa sem ordenação.</p>
      *
      * @param status Status das tarefas a serem buscadas
      * @return Lista de tarefas com o status especificado
      */
-    List<Tarefa> findByStatus(StatusTarefa status);
+    List<Tarefa> findByStatusOrderByDataCriacaoDescIdDesc(StatusTarefa status);
 
     /**
      * Busca tarefas cujo título contenha o texto especificado (case-insensitive).
@@ -67,6 +87,14 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
      */
     Long countByStatus(StatusTarefa status);
 
+    /**
+     * Conta as tarefas de todos os status em uma única consulta.
+     *
+     * @return Quantidade de tarefas agrupada por status
+     */
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Tarefa t GROUP BY t.status")
+    List<ContagemPorStatus> countGroupByStatus();
+
     /**
      * Busca todas as tarefas ordenadas por data de criação descendente.
      *
@@ -75,6 +103,62 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
     @Query("SELECT t FROM Tarefa t ORDER BY t.dataCriacao DESC")
     List<Tarefa> findAllOrderByDataCriacaoDesc();
 
+    /**
+     * Busca o resumo de todas as tarefas, ordenadas por data de criação descendente.
+     *
+     * <p>Seleciona apenas as colunas do resumo (sem {@code descricao}) diretamente
+     * no DTO, sem entidades gerenciadas nem verificação de alterações.</p>
+     *
+     * @return Resumos das tarefas, da mais recente para a mais antiga
+     */
+    @Query("SELECT new com.stefanini.todolist.application.dtos.TarefaResumoDTO("
+            + "t.id, t.titulo, t.status, t.dataCriacao, t.dataAtualizacao, t.versao) "
+            + "FROM Tarefa t ORDER BY t.dataCriacao DESC")
+    List<TarefaResumoDTO> findResumoOrderByDataCriacaoDesc();
+
+    /**
+     * Busca o resumo das tarefas com um determinado status.
+     *
+     * @param status Status das tarefas a serem buscadas
+     * @return Resumos das tarefas com o status especificado, da mais recente para a mais antiga
+     * @see #findByStatusOrderByDataCriacaoDescIdDesc(StatusTarefa)
+     */
+    @Query("SELECT new com.stefanini.todolist.application.dtos.TarefaResumoDTO("
+            + "t.id, t.titulo, t.status, t.dataCriacao, t.dataAtualizacao, t.versao) "
+            + "FROM Tarefa t WHERE t.status = :status ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<TarefaResumoDTO> findResumoByStatus(@Param("status") StatusTarefa status);
+
+    /**
+     * Busca a primeira página da listagem paginada por cursor (keyset).
+     *
+     * <p>A ordenação por {@code (dataCriacao, id)} é atendida pelo índice
+     * {@code idx_tarefas_data_criacao}, de modo que apenas as linhas da página
+     * são lidas.</p>
+     *
+     * @param pageable Limite de registros (apenas o tamanho da página é considerado)
+     * @return Tarefas mais recentes, da mais nova para a mais antiga
+     */
+    @Query("SELECT t FROM Tarefa t ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<Tarefa> findPrimeiraPagina(Pageable pageable);
+
+    /**
+     * Busca a página seguinte a um cursor {@code (dataCriacao, id)}.
+     *
+     * <p>O predicado percorre o índice a partir da posição do cursor, sem OFFSET,
+     * mantendo o custo de qualquer página igual ao da primeira.</p>
+     *
+     * @param dataCriacao Data de criação do último registro da página anterior
+     * @param id ID do último registro da página anterior
+     * @param pageable Limite de registros (apenas o tamanho da página é considerado)
+     * @return Tarefas posteriores ao cursor, da mais nova para a mais antiga
+     */
+    @Query("SELECT t FROM Tarefa t WHERE t.dataCriacao < :dataCriacao "
+            + "OR (t.dataCriacao = :dataCriacao AND t.id < :id) "
+            + "ORDER BY t.dataCriacao DESC, t.id DESC")
+    List<Tarefa> findPaginaApos(@Param("dataCriacao") LocalDateTime dataCriacao,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
     /**
      * Busca tarefas por status e título (query customizada).
      *
@@ -84,5 +168,132 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
      */
     @Query("SELECT t FROM Tarefa t WHERE t.status = :status AND LOWER(t.titulo) LIKE LOWER(CONCAT('%', :titulo, '%'))")
     List<Tarefa> findByStatusAndTitulo(@Param("status") StatusTarefa status, @Param("titulo") String titulo);
-}
 
+    /**
+     * Percorre todas as tarefas em stream, usando cursor no servidor.
+     *
+     * <p>As linhas são lidas do banco em lotes de {@link #FETCH_SIZE_STREAM} e as
+     * entidades são carregadas como somente leitura. Deve ser consumido dentro de
+     * uma transação e fechado ao final (try-with-resources).</p>
+     *
+     * @return Stream de tarefas ordenadas por ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Tarefa t ORDER BY t.id")
+    Stream<Tarefa> streamAll();
+
+    /**
+     * Percorre todas as tarefas em stream como {@link TarefaResponseDTO}, usando cursor no servidor.
+     *
+     * <p>Projeção por construtor: nenhuma entidade é carregada no contexto de
+     * persistência, que não cresce com o volume percorrido. Deve ser consumido
+     * dentro de uma transação e fechado após o uso.</p>
+     *
+     * @return Stream de tarefas ordenadas por ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM))
+    @Query("SELECT new com.stefanini.todolist.application.dtos.TarefaResponseDTO("
+            + "t.id, t.titulo, t.descricao, t.dataCriacao, t.dataAtualizacao, t.status, t.versao) "
+            + "FROM Tarefa t ORDER BY t.id")
+    Stream<TarefaResponseDTO> streamResponseAll();
+
+    /**
+     * Percorre em stream, como {@link TarefaResponseDTO}, as tarefas com um determinado status.
+     *
+     * @param status Status das tarefas a serem percorridas
+     * @return Stream de tarefas com o status especificado, ordenadas por ID
+     * @see #streamResponseAll()
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE_STREAM))
+    @Query("SELECT new com.stefanini.todolist.application.dtos.TarefaResponseDTO("
+            + "t.id, t.titulo, t.descricao, t.dataCriacao, t.dataAtualizacao, t.status, t.versao) "
+            + "FROM Tarefa t WHERE t.status = :status ORDER BY t.id")
+    Stream<TarefaResponseDTO> streamResponseByStatus(@Param("status") StatusTarefa status);
+
+    /**
+     * Altera o status das tarefas informadas em um único UPDATE.
+     * Tarefas que já estão no novo status não são alteradas.
+     *
+     * @param ids IDs das tarefas
+     * @param novoStatus Novo status
+     * @param dataAtualizacao Data de atualização a ser registrada
+     * @return Quantidade de tarefas alteradas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.status = :novoStatus, t.dataAtualizacao = :dataAtualizacao, "
+            + "t.versao = t.versao + 1 "
+            + "WHERE t.id IN :ids AND t.status <> :novoStatus")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("novoStatus") StatusTarefa novoStatus,
+                          @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+    /**
+     * Altera o status das tarefas que atendem aos filtros em um único UPDATE.
+     * Filtros nulos são ignorados. Tarefas que já estão no novo status não são alteradas.
+     *
+     * @param statusAtual Filtro pelo status atual (opcional)
+     * @param criadaDe Filtro pela data de criação inicial, inclusive (opcional)
+     * @param criadaAte Filtro pela data de criação final, inclusive (opcional)
+     * @param novoStatus Novo status
+     * @param dataAtualizacao Data de atualização a ser registrada
+     * @return Quantidade de tarefas alteradas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.status = :novoStatus, t.dataAtualizacao = :dataAtualizacao, "
+            + "t.versao = t.versao + 1 "
+            + "WHERE t.status <> :novoStatus "
+            + "AND (:statusAtual IS NULL OR t.status = :statusAtual) "
+            + "AND (:criadaDe IS NULL OR t.dataCriacao >= :criadaDe) "
+            + "AND (:criadaAte IS NULL OR t.dataCriacao <= :criadaAte)")
+    int updateStatusByFiltro(@Param("statusAtual") StatusTarefa statusAtual,
+                             @Param("criadaDe") LocalDateTime criadaDe,
+                             @Param("criadaAte") LocalDateTime criadaAte,
+                             @Param("novoStatus") StatusTarefa novoStatus,
+                             @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
+    /**
+     * Lê apenas o status e a versão da tarefa, pela chave primária.
+     *
+     * @param id ID da tarefa
+     * @return Status e versão da tarefa, se existir
+     */
+    @Query("SELECT t.status AS status, t.versao AS versao FROM Tarefa t WHERE t.id = :id")
+    Optional<EstadoTarefa> findEstadoById(@Param("id") Long id);
+
+    /**
+     * Remove a tarefa em um único DELETE, apenas se ela ainda estiver na versão informada.
+     *
+     * @param id ID da tarefa
+     * @param versao Versão esperada
+     * @return Quantidade de tarefas removidas (0 ou 1)
+     */
+    @Modifying
+    @Query("DELETE FROM Tarefa t WHERE t.id = :id AND t.versao = :versao")
+    int deleteRowByIdAndVersao(@Param("id") Long id, @Param("versao") Long versao);
+
+    /**
+     * Atualiza título, descrição e status da tarefa em um único UPDATE, sem carregá-la,
+     * apenas se ela ainda estiver na versão informada. A versão é incrementada.
+     *
+     * @param id ID da tarefa
+     * @param versao Versão esperada
+     * @param titulo Novo título
+     * @param descricao Nova descrição
+     * @param status Novo status
+     * @param dataAtualizacao Data da atualização
+     * @return Quantidade de tarefas alteradas (0 ou 1)
+     */
+    @Modifying
+    @Query("UPDATE Tarefa t SET t.titulo = :titulo, t.descricao = :descricao, t.status = :status, "
+            + "t.dataAtualizacao = :dataAtualizacao, t.versao = t.versao + 1 "
+            + "WHERE t.id = :id AND t.versao = :versao")
+    int updateRowByIdAndVersao(@Param("id") Long id,
+                               @Param("versao") Long versao,
+                               @Param("titulo") String titulo,
+                               @Param("descricao") String descricao,
+                               @Param("status") StatusTarefa status,
+                               @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+}
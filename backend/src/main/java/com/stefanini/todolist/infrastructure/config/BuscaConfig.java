@@ -0,0 +1,43 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.stefanini.todolist.infrastructure.search.IndiceBuscaTarefas;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuração do índice de busca textual de tarefas.
+ *
+ * <p>Por padrão o índice é mantido em memória. Para tabelas grandes, informe
+ * {@code todolist.busca.diretorio} para mantê-lo em disco (mapeado em memória
+ * pelo sistema operacional), reduzindo o uso de heap.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Configuration
+public class BuscaConfig {
+
+    /**
+     * Cria o índice de busca de tarefas.
+     *
+     * @param diretorio Diretório do índice em disco (vazio para manter em memória)
+     * @return Índice de busca
+     * @throws IOException se o índice não puder ser criado
+     */
+    @Bean(destroyMethod = "close")
+    public IndiceBuscaTarefas indiceBuscaTarefas(
+            @Value("${todolist.busca.diretorio:}") String diretorio) throws IOException {
+        Directory directory = diretorio.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(diretorio));
+        return new IndiceBuscaTarefas(directory);
+    }
+}
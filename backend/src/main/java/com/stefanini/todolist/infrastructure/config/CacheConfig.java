@@ -0,0 +1,73 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuração do cache em memória da aplicação.
+ *
+ * <p>Utiliza o Caffeine como provedor, com tamanho máximo, expiração opcional
+ * por tempo e coleta de estatísticas (acertos, falhas e remoções).</p>
+ *
+ * <p>O gerenciador é envolvido por um {@link TransactionAwareCacheManagerProxy}:
+ * inclusões e remoções feitas durante uma transação só são aplicadas após o
+ * commit, evitando que dados não confirmados (ou revertidos) fiquem no cache.
+ * Como a inclusão é adiada, os caches são {@link CacheTarefasVersionado}, que não
+ * substituem uma tarefa por uma versão mais antiga.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * Nome do cache de tarefas indexado por ID.
+     */
+    public static final String CACHE_TAREFAS = "tarefas";
+
+    /**
+     * Cria o gerenciador de cache com as configurações do Caffeine.
+     *
+     * @param tamanhoMaximo Quantidade máxima de entradas no cache
+     * @param ttl Tempo de vida das entradas (zero desativa a expiração)
+     * @return Gerenciador de cache sensível a transações
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${todolist.cache.tarefas.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${todolist.cache.tarefas.ttl:0}") Duration ttl) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .recordStats();
+
+        if (!ttl.isZero()) {
+            caffeine.expireAfterWrite(ttl);
+        }
+
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new CacheTarefasVersionado(name, cache, isAllowNullValues());
+            }
+        };
+        caffeineCacheManager.setCaffeine(caffeine);
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCacheNames(List.of(CACHE_TAREFAS));
+
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
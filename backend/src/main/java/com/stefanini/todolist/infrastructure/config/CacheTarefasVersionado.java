@@ -0,0 +1,51 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Cache Caffeine que nunca substitui uma tarefa por uma versão mais antiga.
+ *
+ * <p>Com o {@link org.springframework.cache.transaction.TransactionAwareCacheManagerProxy},
+ * a inclusão de um {@code @Cacheable} só ocorre após o commit da leitura. Uma leitura
+ * da versão N concluída depois de uma atualização concorrente já ter gravado a
+ * versão N+1 no cache a sobrescreveria com dados desatualizados até a expiração.
+ * Aqui a inclusão de um {@link TarefaResponseDTO} é feita por {@code merge} atômico,
+ * mantendo a entrada de maior {@code versao}.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+class CacheTarefasVersionado extends CaffeineCache {
+
+    /**
+     * Cria o cache.
+     *
+     * @param nome Nome do cache
+     * @param cache Cache Caffeine subjacente
+     * @param permitirNulos Se valores nulos são armazenados
+     */
+    CacheTarefasVersionado(String nome, Cache<Object, Object> cache, boolean permitirNulos) {
+        super(nome, cache, permitirNulos);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value instanceof TarefaResponseDTO) {
+            getNativeCache().asMap().merge(key, value, CacheTarefasVersionado::maisRecente);
+        } else {
+            super.put(key, value);
+        }
+    }
+
+    private static Object maisRecente(Object atual, Object novo) {
+        if (atual instanceof TarefaResponseDTO emCache && novo instanceof TarefaResponseDTO recebida
+                && emCache.getVersao() != null && recebida.getVersao() != null
+                && recebida.getVersao() < emCache.getVersao()) {
+            return atual;
+        }
+        return novo;
+    }
+}
@@ -41,7 +41,7 @@ public class CorsConfig {
         config.addAllowedHeader("*");
 
         // Métodos HTTP permitidos
-        config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
 
         // Headers expostos
         config.addExposedHeader("Authorization");
@@ -0,0 +1,48 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Formatos binários de resposta, escolhidos pelo cabeçalho {@code Accept}.
+ *
+ * <p>Além de JSON, as respostas podem ser enviadas em CBOR ({@code application/cbor})
+ * ou Smile ({@code application/x-jackson-smile}), formatos binários mais compactos
+ * e mais baratos de gerar e ler. Os conversores usam o mesmo
+ * {@link Jackson2ObjectMapperBuilder} do JSON, com os módulos e as propriedades
+ * {@code spring.jackson.*} da aplicação.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Configuration
+public class FormatosRespostaConfig {
+
+    /**
+     * Conversor de respostas em CBOR.
+     *
+     * @param builder Construtor do {@code ObjectMapper} configurado pelo Spring Boot
+     * @return Conversor CBOR
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Conversor de respostas em Smile.
+     *
+     * @param builder Construtor do {@code ObjectMapper} configurado pelo Spring Boot
+     * @return Conversor Smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
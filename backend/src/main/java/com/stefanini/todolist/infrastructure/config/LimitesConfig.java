@@ -0,0 +1,30 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.stefanini.todolist.infrastructure.limites.LimitadorRequisicoes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registra o {@link LimitadorRequisicoes} nos endpoints de tarefas.
+ *
+ * <p>O limitador é executado após a resolução da rota e antes do controller,
+ * de modo que as recusas não chegam a acessar o banco e são convertidas em
+ * resposta pelo manipulador global de exceções.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Configuration
+@RequiredArgsConstructor
+public class LimitesConfig implements WebMvcConfigurer {
+
+    private final LimitadorRequisicoes limitadorRequisicoes;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(limitadorRequisicoes).addPathPatterns("/api/tarefas", "/api/tarefas/**");
+    }
+}
@@ -0,0 +1,79 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.stefanini.todolist.infrastructure.monitoring.AmostradorConsultasLentas;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Configuração das métricas da camada de persistência.
+ *
+ * <p>Substitui o log de cada instrução SQL ({@code show-sql}) por métricas
+ * agregadas, expostas em {@code /actuator/metrics}:
+ * <ul>
+ *   <li>{@code spring.data.repository.invocations} - histograma de latência por método de repositório</li>
+ *   <li>{@code todolist.sql.lentas} - consultas acima do limite, com log amostrado</li>
+ *   <li>{@code hibernate.*} - estatísticas da sessão (instruções, entidades, transações),
+ *       registradas automaticamente pelo Spring Boot</li>
+ *   <li>{@code hibernate.query.*} - execuções, linhas retornadas e tempos por consulta</li>
+ * </ul>
+ * </p>
+ *
+ * <p>As duas últimas dependem das estatísticas do Hibernate, cuja coleta tem custo
+ * em toda sessão; por isso só são publicadas com {@code todolist.sql.estatisticas=true}.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Configuration
+public class MetricasPersistenciaConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    public MetricasPersistenciaConfig(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra as métricas por consulta do Hibernate, se as estatísticas estiverem ativas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registrarMetricasConsultas() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        if (sessionFactory.getStatistics().isStatisticsEnabled()) {
+            HibernateQueryMetrics.monitor(meterRegistry, sessionFactory, "entityManagerFactory");
+        }
+    }
+
+    /**
+     * Inscreve o {@link AmostradorConsultasLentas} em todos os repositórios Spring Data.
+     *
+     * @param amostrador Amostrador de consultas lentas (obtido sob demanda)
+     * @return Pós-processador das fábricas de repositório
+     */
+    @Bean
+    public static BeanPostProcessor amostradorConsultasLentasPostProcessor(
+            ObjectProvider<AmostradorConsultasLentas> amostrador) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> fabrica) {
+                    fabrica.addRepositoryFactoryCustomizer(
+                            repositoryFactory -> repositoryFactory.addInvocationListener(amostrador.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita a execução de tarefas agendadas ({@code @Scheduled}).
+ *
+ * <p>Utilizado, por exemplo, na reconciliação periódica dos contadores
+ * de tarefas por status.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
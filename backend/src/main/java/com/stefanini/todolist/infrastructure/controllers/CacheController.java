@@ -0,0 +1,77 @@
+package com.stefanini.todolist.infrastructure.controllers;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.stefanini.todolist.application.dtos.CacheEstatisticasDTO;
+import com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST para consulta das estatísticas dos caches da aplicação.
+ *
+ * <p>Endpoints disponíveis:
+ * <ul>
+ *   <li>GET /api/caches/{nome}/estatisticas - Acertos, falhas e remoções do cache</li>
+ * </ul>
+ * </p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+@Tag(name = "Caches", description = "Endpoints para acompanhamento dos caches")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Retorna as estatísticas de um cache.
+     *
+     * @param nome Nome do cache
+     * @return Estatísticas de uso do cache
+     */
+    @GetMapping("/{nome}/estatisticas")
+    @Operation(summary = "Estatísticas do cache", description = "Retorna acertos, falhas e remoções de um cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cache não encontrado")
+    })
+    public ResponseEntity<CacheEstatisticasDTO> estatisticas(
+            @Parameter(description = "Nome do cache", required = true)
+            @PathVariable String nome) {
+        Cache cache = cacheManager.getCache(nome);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache == null
+                || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativo)) {
+            throw new ResourceNotFoundException("Cache não encontrado: " + nome);
+        }
+
+        CacheStats stats = nativo.stats();
+        CacheEstatisticasDTO response = CacheEstatisticasDTO.builder()
+                .nome(nome)
+                .tamanho(nativo.estimatedSize())
+                .acertos(stats.hitCount())
+                .falhas(stats.missCount())
+                .remocoes(stats.evictionCount())
+                .taxaAcerto(stats.hitRate())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+}
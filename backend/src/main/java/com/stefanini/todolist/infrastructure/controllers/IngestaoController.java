@@ -0,0 +1,95 @@
+package com.stefanini.todolist.infrastructure.controllers;
+
+import com.stefanini.todolist.application.dtos.IngestaoTarefaDTO;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.infrastructure.ingestao.FilaIngestaoTarefas;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller REST da ingestão de tarefas em alto volume.
+ *
+ * <p>Disponível apenas com {@code todolist.ingestao.habilitada=true}. As tarefas
+ * enviadas são gravadas em grupo pela {@link FilaIngestaoTarefas}.</p>
+ *
+ * <p>Endpoints disponíveis:
+ * <ul>
+ *   <li>POST /api/tarefas/ingestao - Enviar tarefa para gravação em grupo</li>
+ *   <li>GET /api/tarefas/ingestao/{token} - Consultar a situação de um envio</li>
+ * </ul>
+ * </p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@RestController
+@RequestMapping("/api/tarefas/ingestao")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "todolist.ingestao", name = "habilitada", havingValue = "true")
+@Tag(name = "Ingestão", description = "Endpoints para criação de tarefas em alto volume")
+public class IngestaoController {
+
+    private final FilaIngestaoTarefas filaIngestao;
+
+    /**
+     * Envia uma tarefa para gravação em grupo.
+     *
+     * <p>Responde após o commit do grupo: 201 com a tarefa criada ou 422 com os
+     * motivos da rejeição. O resultado também pode ser consultado pelo token.</p>
+     *
+     * @param createDTO Dados da tarefa a ser criada
+     * @return Situação do envio, com o token de correlação
+     */
+    @PostMapping
+    @Operation(summary = "Enviar tarefa para gravação em grupo",
+            description = "Enfileira a tarefa; várias tarefas são gravadas em uma única transação")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tarefa gravada (confirmação após o commit do grupo)"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+            @ApiResponse(responseCode = "422", description = "Tarefa rejeitada na gravação"),
+            @ApiResponse(responseCode = "503", description = "Fila de ingestão cheia")
+    })
+    public CompletableFuture<ResponseEntity<IngestaoTarefaDTO>> enviar(
+            @Valid @RequestBody TarefaCreateDTO createDTO) {
+        FilaIngestaoTarefas.Recibo recibo = filaIngestao.enviar(createDTO);
+        URI local = URI.create("/api/tarefas/ingestao/" + recibo.token());
+
+        return recibo.resultado().thenApply(situacao -> ResponseEntity
+                .status(situacao.getSituacao() == IngestaoTarefaDTO.Situacao.CRIADA
+                        ? HttpStatus.CREATED
+                        : HttpStatus.UNPROCESSABLE_ENTITY)
+                .location(local)
+                .body(situacao));
+    }
+
+    /**
+     * Consulta a situação de um envio.
+     *
+     * @param token Token devolvido no envio
+     * @return Situação do envio e, se gravada, a tarefa criada
+     */
+    @GetMapping("/{token}")
+    @Operation(summary = "Consultar envio", description = "Retorna a situação de um envio e a tarefa criada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Token desconhecido ou expirado")
+    })
+    public ResponseEntity<IngestaoTarefaDTO> consultar(
+            @Parameter(description = "Token devolvido no envio", required = true)
+            @PathVariable String token) {
+        return ResponseEntity.ok(filaIngestao.consultar(token));
+    }
+}
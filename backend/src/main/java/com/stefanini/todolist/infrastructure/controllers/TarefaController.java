@@ -1,10 +1,28 @@
 package com.stefanini.todolist.infrastructure.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.todolist.application.dtos.AlteracaoStatusLoteDTO;
+import com.stefanini.todolist.application.dtos.AlteracaoStatusResultadoDTO;
+import com.stefanini.todolist.application.dtos.EstatisticasTarefasDTO;
+import com.stefanini.todolist.application.dtos.PaginaCursorDTO;
+import com.stefanini.todolist.application.dtos.ResultadoBuscaDTO;
+import com.stefanini.todolist.application.dtos.ResultadoLoteDTO;
 import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaPatchDTO;
 import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaResumoDTO;
 import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
+import com.stefanini.todolist.application.dtos.TarefasColunaresDTO;
+import com.stefanini.todolist.application.serializacao.EscritorTarefaJson;
+import com.stefanini.todolist.application.services.EstatisticasService;
 import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.application.services.VersaoTarefas;
 import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
+import com.stefanini.todolist.infrastructure.idempotencia.RegistroIdempotencia;
+import com.stefanini.todolist.infrastructure.monitoring.RegistroAcessoFilter;
+import com.stefanini.todolist.infrastructure.sse.DifusorEventosTarefas;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,11 +30,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -28,10 +54,18 @@ import java.util.List;
  * <p>Endpoints disponíveis:
  * <ul>
  *   <li>POST /api/tarefas - Criar nova tarefa</li>
- *   <li>GET /api/tarefas - Listar todas as tarefas</li>
+ *   <li>POST /api/tarefas/lote - Criar tarefas em lote</li>
+ *   <li>GET /api/tarefas - Listar todas as tarefas (JSON, CBOR, Smile ou colunar, conforme o Accept)</li>
+ *   <li>GET /api/tarefas/pagina - Listar tarefas paginadas por cursor</li>
+ *   <li>GET /api/tarefas/busca - Buscar tarefas por texto (ranqueado)</li>
+ *   <li>GET /api/tarefas/exportar - Exportar tarefas em NDJSON (streaming)</li>
+ *   <li>GET /api/tarefas/eventos - Acompanhar alterações de tarefas (SSE)</li>
+ *   <li>GET /api/tarefas/estatisticas - Quantidade de tarefas por status</li>
  *   <li>GET /api/tarefas/{id} - Buscar tarefa por ID</li>
  *   <li>GET /api/tarefas/status/{status} - Listar tarefas por status</li>
  *   <li>PUT /api/tarefas/{id} - Atualizar tarefa existente</li>
+ *   <li>PATCH /api/tarefas/{id} - Atualizar campos de uma tarefa (com versão)</li>
+ *   <li>PATCH /api/tarefas/lote/status - Alterar status de várias tarefas</li>
  *   <li>DELETE /api/tarefas/{id} - Remover tarefa</li>
  * </ul>
  * </p>
@@ -43,89 +77,372 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/tarefas")
 @RequiredArgsConstructor
-@Slf4j
 @Tag(name = "Tarefas", description = "Endpoints para gerenciamento de tarefas")
 public class TarefaController {
 
+    /**
+     * Quantidade de linhas escritas entre cada flush da exportação.
+     */
+    private static final int LINHAS_POR_FLUSH = 500;
+
+    /**
+     * Representação completa das listagens ({@link TarefaResponseDTO}).
+     */
+    private static final String VIEW_COMPLETA = "full";
+
+    /**
+     * Representação resumida das listagens ({@link TarefaResumoDTO}).
+     */
+    private static final String VIEW_RESUMO = "summary";
+
+    /**
+     * Cabeçalho que identifica uma criação de tarefa para repetição segura.
+     */
+    private static final String CABECALHO_IDEMPOTENCIA = "Idempotency-Key";
+
+    /**
+     * Cabeçalho que indica que a resposta é a da requisição original.
+     */
+    private static final String CABECALHO_REPETIDA = "Idempotent-Replayed";
+
     private final TarefaService tarefaService;
+    private final EstatisticasService estatisticasService;
+    private final ObjectMapper objectMapper;
+    private final DifusorEventosTarefas difusorEventos;
+    private final VersaoTarefas versaoTarefas;
+    private final RegistroIdempotencia registroIdempotencia;
 
     /**
      * Cria uma nova tarefa.
      *
+     * <p>Com o cabeçalho {@code Idempotency-Key}, repetições da requisição com a
+     * mesma chave devolvem a resposta original, com o cabeçalho
+     * {@code Idempotent-Replayed: true}, em vez de criar outra.</p>
+     *
+     * @param chaveIdempotencia Chave de idempotência (opcional)
      * @param createDTO Dados da tarefa a ser criada
      * @return Dados da tarefa criada com status 201 (Created)
      */
     @PostMapping
     @Operation(summary = "Criar nova tarefa", description = "Cria uma nova tarefa no sistema")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Tarefa criada com sucesso"),
+            @ApiResponse(responseCode = "201", description = "Tarefa criada com sucesso (ou criada anteriormente com a mesma chave)"),
             @ApiResponse(responseCode = "400", description = "Dados inválidos na requisição"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key já utilizada com outro corpo"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     public ResponseEntity<TarefaResponseDTO> criar(
+            @Parameter(description = "Chave para repetição segura da criação")
+            @RequestHeader(value = CABECALHO_IDEMPOTENCIA, required = false) String chaveIdempotencia,
             @Valid @RequestBody TarefaCreateDTO createDTO) {
-        log.info("Requisição recebida para criar tarefa");
-        TarefaResponseDTO response = tarefaService.criar(createDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        if (chaveIdempotencia == null) {
+            TarefaResponseDTO response = tarefaService.criar(createDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+
+        RegistroIdempotencia.Resultado resultado = registroIdempotencia.criar(chaveIdempotencia, createDTO);
+        return ResponseEntity.status(resultado.status())
+                .header(CABECALHO_REPETIDA, String.valueOf(resultado.repetida()))
+                .body(resultado.tarefa());
+    }
+
+    /**
+     * Cria várias tarefas em uma única requisição.
+     *
+     * <p>Cada item é validado individualmente. Retorna 201 quando todos os itens
+     * são criados, 207 quando parte é rejeitada e 400 quando todos são rejeitados.</p>
+     *
+     * @param createDTOs Dados das tarefas a serem criadas
+     * @return Tarefas criadas e falhas por item
+     */
+    @PostMapping("/lote")
+    @Operation(summary = "Criar tarefas em lote",
+            description = "Cria várias tarefas em uma única transação, reportando falhas por item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Todas as tarefas criadas com sucesso"),
+            @ApiResponse(responseCode = "207", description = "Parte das tarefas rejeitada"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, muito grande ou sem itens válidos"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<ResultadoLoteDTO> criarEmLote(
+            @RequestBody List<TarefaCreateDTO> createDTOs) {
+        ResultadoLoteDTO response = tarefaService.criarEmLote(createDTOs);
+        RegistroAcessoFilter.registrarLinhas(response.getTotalCriado());
+
+        HttpStatus status = HttpStatus.CREATED;
+        if (response.getTotalCriado() == 0) {
+            status = HttpStatus.BAD_REQUEST;
+        } else if (!response.getFalhas().isEmpty()) {
+            status = HttpStatus.MULTI_STATUS;
+        }
+        return ResponseEntity.status(status).body(response);
     }
 
     /**
      * Lista todas as tarefas cadastradas.
      *
+     * <p>Responde 304 sem consultar o banco quando o {@code If-None-Match}
+     * corresponde à versão atual da listagem.</p>
+     *
+     * <p>Com {@code view=summary}, retorna apenas o resumo de cada tarefa
+     * ({@link TarefaResumoDTO}, sem a descrição).</p>
+     *
+     * @param view Representação da lista: {@code full} (padrão) ou {@code summary}
+     * @param request Requisição, usada para avaliar o {@code If-None-Match}
      * @return Lista de todas as tarefas
      */
     @GetMapping
     @Operation(summary = "Listar todas as tarefas", description = "Retorna lista com todas as tarefas cadastradas")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada"),
+            @ApiResponse(responseCode = "400", description = "Representação inválida"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
-    public ResponseEntity<List<TarefaResponseDTO>> listarTodas() {
-        log.info("Requisição recebida para listar todas as tarefas");
-        List<TarefaResponseDTO> response = tarefaService.listarTodas();
+    public ResponseEntity<List<?>> listarTodas(
+            @Parameter(description = "Representação da lista: full (padrão) ou summary (sem descrição)")
+            @RequestParam(defaultValue = VIEW_COMPLETA) String view,
+            WebRequest request) {
+        boolean resumo = isResumo(view);
+        // A versão é lida antes da consulta (ver VersaoTarefas)
+        String etag = resumo ? VersaoTarefas.etagResumo(versaoTarefas.etagTodas()) : versaoTarefas.etagTodas();
+        if (naoModificada(request, etag)) {
+            return null;
+        }
+        List<?> response = resumo ? tarefaService.listarResumo() : tarefaService.listarTodas();
+        RegistroAcessoFilter.registrarLinhas(response.size());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(response);
+    }
+
+    /**
+     * Lista todas as tarefas em formato colunar (um array por campo).
+     *
+     * <p>Selecionado pelo cabeçalho {@code Accept: application/vnd.todolist.colunar+json}.
+     * Responde 304 sem consultar o banco quando o {@code If-None-Match} corresponde
+     * à versão atual da listagem.</p>
+     *
+     * @param request Requisição, usada para avaliar o {@code If-None-Match}
+     * @return Todas as tarefas em formato colunar
+     */
+    @GetMapping(produces = TarefasColunaresDTO.MEDIA_TYPE)
+    @Operation(summary = "Listar todas as tarefas (colunar)",
+            description = "Retorna todas as tarefas com um array por campo, para listas grandes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<TarefasColunaresDTO> listarTodasColunar(WebRequest request) {
+        String etag = VersaoTarefas.etagColunar(versaoTarefas.etagTodas());
+        if (naoModificada(request, etag)) {
+            return null;
+        }
+        TarefasColunaresDTO response = TarefasColunaresDTO.de(tarefaService.listarTodas());
+        RegistroAcessoFilter.registrarLinhas(response.getTotal());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(response);
+    }
+
+    /**
+     * Lista tarefas paginadas por cursor, da mais recente para a mais antiga.
+     *
+     * @param cursor Cursor retornado pela página anterior (opcional)
+     * @param limite Quantidade máxima de tarefas na página
+     * @return Página de tarefas com o cursor da próxima página
+     */
+    @GetMapping("/pagina")
+    @Operation(summary = "Listar tarefas paginadas",
+            description = "Retorna uma página de tarefas usando paginação por cursor (keyset)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<PaginaCursorDTO<TarefaResponseDTO>> listarPaginado(
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade máxima de tarefas na página (1 a 500)")
+            @RequestParam(defaultValue = "50") int limite) {
+        PaginaCursorDTO<TarefaResponseDTO> response = tarefaService.listarPaginado(cursor, limite);
+        RegistroAcessoFilter.registrarLinhas(response.getItens().size());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Busca tarefas por texto no título e na descrição, ordenadas por relevância.
+     *
+     * @param q Texto a ser buscado
+     * @param pagina Número da página (começando em zero)
+     * @param tamanho Quantidade máxima de tarefas por página
+     * @return Página de tarefas encontradas e total encontrado
+     */
+    @GetMapping("/busca")
+    @Operation(summary = "Buscar tarefas por texto",
+            description = "Busca textual ranqueada no título e na descrição das tarefas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Termo ou página inválidos"),
+            @ApiResponse(responseCode = "503", description = "Índice de busca em construção"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<ResultadoBuscaDTO> buscar(
+            @Parameter(description = "Texto a ser buscado", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Número da página (começando em zero)")
+            @RequestParam(defaultValue = "0") int pagina,
+            @Parameter(description = "Quantidade máxima de tarefas por página (1 a 100)")
+            @RequestParam(defaultValue = "20") int tamanho) {
+        ResultadoBuscaDTO response = tarefaService.buscar(q, pagina, tamanho);
+        RegistroAcessoFilter.registrarLinhas(response.getItens().size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Exporta tarefas em NDJSON (uma tarefa JSON por linha) via streaming.
+     *
+     * <p>As tarefas são lidas do banco com cursor e escritas diretamente na resposta,
+     * sem manter o resultado completo em memória.</p>
+     *
+     * @param status Status para filtrar (opcional)
+     * @return Corpo da resposta escrito de forma incremental
+     */
+    @GetMapping(value = "/exportar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar tarefas",
+            description = "Exporta todas as tarefas, ou as de um status, em NDJSON via streaming")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Status inválido"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Status da tarefa (PENDENTE, EM_ANDAMENTO, CONCLUIDA)")
+            @RequestParam(required = false) StatusTarefa status) {
+        StreamingResponseBody corpo = saida -> {
+            try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+                // Sem separador entre valores raiz: cada linha é terminada com '\n'
+                gerador.setRootValueSeparator(null);
+                // Um único escritor (e seu buffer de datas) para toda a exportação
+                EscritorTarefaJson escritor = new EscritorTarefaJson();
+                int[] linhas = {0};
+                tarefaService.exportar(status, tarefa -> {
+                    try {
+                        escritor.escrever(gerador, tarefa);
+                        gerador.writeRaw('\n');
+                        if (++linhas[0] % LINHAS_POR_FLUSH == 0) {
+                            gerador.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
+    /**
+     * Inscreve o cliente no fluxo de alterações de tarefas (Server-Sent Events).
+     *
+     * <p>Após cada commit são enviados eventos compactos de criação, atualização
+     * e remoção, permitindo que o cliente atualize sua lista sem recarregá-la.</p>
+     *
+     * @return Emissor SSE da conexão
+     */
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar alterações de tarefas",
+            description = "Fluxo SSE com as tarefas criadas, atualizadas e removidas após cada commit")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fluxo de eventos iniciado")
+    })
+    public SseEmitter acompanharEventos() {
+        return difusorEventos.assinar();
+    }
+
+    /**
+     * Retorna a quantidade de tarefas por status.
+     *
+     * @return Quantidades por status e total
+     */
+    @GetMapping("/estatisticas")
+    @Operation(summary = "Estatísticas de tarefas",
+            description = "Retorna a quantidade de tarefas por status, mantida em memória")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<EstatisticasTarefasDTO> estatisticas() {
+        return ResponseEntity.ok(estatisticasService.obterEstatisticas());
+    }
+
     /**
      * Busca uma tarefa específica por ID.
      *
+     * <p>A tarefa é lida do cache; quando o {@code If-None-Match} corresponde
+     * à versão da tarefa, a resposta é 304 sem corpo.</p>
+     *
      * @param id Identificador único da tarefa
+     * @param request Requisição, usada para avaliar o {@code If-None-Match}
      * @return Dados da tarefa encontrada
      */
     @GetMapping("/{id}")
     @Operation(summary = "Buscar tarefa por ID", description = "Retorna os dados de uma tarefa específica")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
+            @ApiResponse(responseCode = "304", description = "Tarefa não modificada"),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     public ResponseEntity<TarefaResponseDTO> buscarPorId(
             @Parameter(description = "ID da tarefa", required = true)
-            @PathVariable Long id) {
-        log.info("Requisição recebida para buscar tarefa por ID: {}", id);
+            @PathVariable Long id,
+            WebRequest request) {
         TarefaResponseDTO response = tarefaService.buscarPorId(id);
-        return ResponseEntity.ok(response);
+        String etag = VersaoTarefas.etagTarefa(response);
+        if (naoModificada(request, etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(response);
     }
 
     /**
      * Lista tarefas filtradas por status.
      *
+     * <p>Responde 304 sem consultar o banco quando o {@code If-None-Match}
+     * corresponde à versão atual das tarefas do status.</p>
+     *
      * @param status Status das tarefas a serem listadas
+     * @param view Representação da lista: {@code full} (padrão) ou {@code summary}
+     * @param request Requisição, usada para avaliar o {@code If-None-Match}
      * @return Lista de tarefas com o status especificado
      */
     @GetMapping("/status/{status}")
     @Operation(summary = "Listar tarefas por status", description = "Retorna lista de tarefas filtradas por status")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Status inválido"),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada"),
+            @ApiResponse(responseCode = "400", description = "Status ou representação inválidos"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
-    public ResponseEntity<List<TarefaResponseDTO>> listarPorStatus(
+    public ResponseEntity<List<?>> listarPorStatus(
             @Parameter(description = "Status da tarefa (PENDENTE, EM_ANDAMENTO, CONCLUIDA)", required = true)
-            @PathVariable StatusTarefa status) {
-        log.info("Requisição recebida para listar tarefas por status: {}", status);
-        List<TarefaResponseDTO> response = tarefaService.listarPorStatus(status);
-        return ResponseEntity.ok(response);
+            @PathVariable StatusTarefa status,
+            @Parameter(description = "Representação da lista: full (padrão) ou summary (sem descrição)")
+            @RequestParam(defaultValue = VIEW_COMPLETA) String view,
+            WebRequest request) {
+        boolean resumo = isResumo(view);
+        String etag = resumo
+                ? VersaoTarefas.etagResumo(versaoTarefas.etagPorStatus(status))
+                : versaoTarefas.etagPorStatus(status);
+        if (naoModificada(request, etag)) {
+            return null;
+        }
+        List<?> response = resumo
+                ? tarefaService.listarResumoPorStatus(status)
+                : tarefaService.listarPorStatus(status);
+        RegistroAcessoFilter.registrarLinhas(response.size());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(response);
     }
 
     /**
@@ -141,17 +458,63 @@ public class TarefaController {
             @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
             @ApiResponse(responseCode = "400", description = "Dados inválidos na requisição"),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Tarefa alterada por outra requisição durante a atualização"),
             @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
     })
     public ResponseEntity<TarefaResponseDTO> atualizar(
             @Parameter(description = "ID da tarefa", required = true)
             @PathVariable Long id,
             @Valid @RequestBody TarefaUpdateDTO updateDTO) {
-        log.info("Requisição recebida para atualizar tarefa ID: {}", id);
         TarefaResponseDTO response = tarefaService.atualizar(id, updateDTO);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Atualiza apenas os campos informados de uma tarefa.
+     *
+     * @param id Identificador único da tarefa
+     * @param patchDTO Campos a alterar e versão conhecida pelo cliente
+     * @return Dados da tarefa atualizada, incluindo a nova versão
+     */
+    @PatchMapping("/{id}")
+    @Operation(summary = "Atualizar tarefa parcialmente",
+            description = "Altera apenas os campos informados, desde que a versão corresponda à versão atual")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos na requisição"),
+            @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Versão desatualizada"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<TarefaResponseDTO> atualizarParcialmente(
+            @Parameter(description = "ID da tarefa", required = true)
+            @PathVariable Long id,
+            @Valid @RequestBody TarefaPatchDTO patchDTO) {
+        TarefaResponseDTO response = tarefaService.atualizarParcialmente(id, patchDTO);
+        return ResponseEntity.ok().eTag(VersaoTarefas.etagTarefa(response)).body(response);
+    }
+
+    /**
+     * Altera o status de várias tarefas em uma única operação.
+     *
+     * @param alteracaoDTO Seleção das tarefas (IDs ou filtros) e novo status
+     * @return Quantidade de tarefas alteradas
+     */
+    @PatchMapping("/lote/status")
+    @Operation(summary = "Alterar status em lote",
+            description = "Altera o status das tarefas selecionadas por IDs ou filtros com um único UPDATE")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status alterado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos na requisição"),
+            @ApiResponse(responseCode = "500", description = "Erro interno no servidor")
+    })
+    public ResponseEntity<AlteracaoStatusResultadoDTO> alterarStatusEmLote(
+            @Valid @RequestBody AlteracaoStatusLoteDTO alteracaoDTO) {
+        AlteracaoStatusResultadoDTO response = tarefaService.alterarStatusEmLote(alteracaoDTO);
+        RegistroAcessoFilter.registrarLinhas(response.getAfetadas());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Remove uma tarefa do sistema.
      *
@@ -168,9 +531,42 @@ public class TarefaController {
     public ResponseEntity<Void> deletar(
             @Parameter(description = "ID da tarefa", required = true)
             @PathVariable Long id) {
-        log.info("Requisição recebida para deletar tarefa ID: {}", id);
         tarefaService.deletar(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * Avalia o {@code If-None-Match} de uma resposta negociada pelo {@code Accept}.
+     *
+     * <p>JSON, CBOR e Smile compartilham a mesma ETag; o {@code Vary: Accept},
+     * enviado tanto no 200 quanto no 304, impede que caches intermediários
+     * entreguem a um cliente a representação pedida por outro.</p>
+     *
+     * @param request Requisição
+     * @param etag ETag da versão atual
+     * @return {@code true} se a resposta 304 já foi preparada
+     */
+    private static boolean naoModificada(WebRequest request, String etag) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * Indica se a representação resumida foi solicitada.
+     *
+     * @param view Valor do parâmetro {@code view}
+     * @return {@code true} para {@code summary}, {@code false} para {@code full}
+     * @throws InvalidDataException se a representação não for reconhecida
+     */
+    private static boolean isResumo(String view) {
+        if (VIEW_RESUMO.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_COMPLETA.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new InvalidDataException("Representação inválida: " + view + ". Use 'full' ou 'summary'");
+    }
+}
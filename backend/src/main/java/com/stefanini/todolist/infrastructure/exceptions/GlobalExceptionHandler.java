@@ -2,9 +2,12 @@ package com.stefanini.todolist.infrastructure.exceptions;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +30,10 @@ import java.util.stream.Collectors;
  *   <li>ResourceNotFoundException - Recurso não encontrado (404)</li>
  *   <li>BusinessRuleException - Violação de regra de negócio (422)</li>
  *   <li>InvalidDataException - Dados inválidos (400)</li>
+ *   <li>VersionConflictException / OptimisticLockingFailureException - Conflito de versão (409)</li>
+ *   <li>CannotCreateTransactionException - Pool de conexões esgotado (503)</li>
+ *   <li>QueueFullException / ServiceOverloadedException - Fila de ingestão cheia ou descarte por sobrecarga (503)</li>
+ *   <li>RateLimitExceededException - Limite de requisições excedido (429)</li>
  *   <li>MethodArgumentNotValidException - Erro de validação (400)</li>
  *   <li>HttpMessageNotReadableException - JSON malformado (400)</li>
  *   <li>MethodArgumentTypeMismatchException - Tipo de argumento inválido (400)</li>
@@ -93,6 +100,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
     }
 
+    /**
+     * Trata conflitos de versão no controle de concorrência otimista.
+     *
+     * <p>Ocorre quando a versão informada pelo cliente está desatualizada ou
+     * quando outra transação altera o registro entre a leitura e a gravação.</p>
+     *
+     * @param ex Exceção lançada
+     * @param request Requisição HTTP
+     * @return Resposta de erro com status 409
+     */
+    @ExceptionHandler({VersionConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(
+            RuntimeException ex,
+            HttpServletRequest request) {
+
+        log.warn("Conflito de versão: {}", ex.getMessage());
+
+        String message = ex instanceof VersionConflictException
+                ? ex.getMessage()
+                : "O registro foi alterado por outra requisição. Recarregue-o e tente novamente.";
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error(HttpStatus.CONFLICT.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Trata exceções de dados inválidos.
      *
@@ -240,6 +279,88 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Trata a rejeição de uma requisição por fila de processamento cheia ou por sobrecarga.
+     *
+     * @param ex Exceção lançada
+     * @param request Requisição HTTP
+     * @return Resposta de erro com status 503 e cabeçalho {@code Retry-After}
+     */
+    @ExceptionHandler({QueueFullException.class, ServiceOverloadedException.class})
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+            RuntimeException ex,
+            HttpServletRequest request) {
+
+        log.warn("Requisição rejeitada: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * Trata a rejeição de uma requisição por limite de requisições excedido.
+     *
+     * @param ex Exceção lançada
+     * @param request Requisição HTTP
+     * @return Resposta de erro com status 429 e cabeçalho {@code Retry-After}
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceededException(
+            RateLimitExceededException ex,
+            HttpServletRequest request) {
+
+        log.debug("Limite de requisições excedido: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Trata a indisponibilidade de conexões com o banco de dados.
+     *
+     * <p>Ocorre quando o pool de conexões permanece esgotado além do tempo
+     * de espera configurado, por exemplo sob alta concorrência.</p>
+     *
+     * @param ex Exceção lançada
+     * @param request Requisição HTTP
+     * @return Resposta de erro com status 503
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(
+            CannotCreateTransactionException ex,
+            HttpServletRequest request) {
+
+        log.warn("Conexão com o banco indisponível: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message("Serviço temporariamente sobrecarregado. Por favor, tente novamente.")
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Trata exceções genéricas e não tratadas especificamente.
      *
@@ -0,0 +1,23 @@
+package com.stefanini.todolist.infrastructure.exceptions;
+
+/**
+ * Exceção lançada quando uma fila de processamento está cheia.
+ *
+ * <p>Indica sobrecarga temporária: a requisição não foi aceita e pode ser
+ * reenviada após alguns instantes.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public class QueueFullException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem de erro.
+     *
+     * @param message Mensagem descritiva do erro
+     */
+    public QueueFullException(String message) {
+        super(message);
+    }
+}
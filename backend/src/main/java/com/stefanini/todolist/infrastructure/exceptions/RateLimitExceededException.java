@@ -0,0 +1,36 @@
+package com.stefanini.todolist.infrastructure.exceptions;
+
+/**
+ * Exceção lançada quando um cliente excede o limite de requisições de um endpoint.
+ *
+ * <p>Informa em quantos segundos o cliente volta a ter requisições disponíveis,
+ * devolvido no cabeçalho {@code Retry-After}.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    /**
+     * Construtor com mensagem de erro e tempo de espera.
+     *
+     * @param message Mensagem descritiva do erro
+     * @param retryAfterSegundos Segundos até a próxima requisição permitida
+     */
+    public RateLimitExceededException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    /**
+     * Segundos até a próxima requisição permitida.
+     *
+     * @return Tempo de espera em segundos
+     */
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
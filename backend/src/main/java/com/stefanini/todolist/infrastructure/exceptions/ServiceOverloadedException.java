@@ -0,0 +1,24 @@
+package com.stefanini.todolist.infrastructure.exceptions;
+
+/**
+ * Exceção lançada quando uma requisição é descartada por sobrecarga do servidor.
+ *
+ * <p>Usada no descarte antecipado de requisições custosas enquanto o pool de
+ * conexões está saturado e das buscas enquanto o índice textual é carregado.
+ * A requisição pode ser reenviada após alguns instantes.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem de erro.
+     *
+     * @param message Mensagem descritiva do erro
+     */
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
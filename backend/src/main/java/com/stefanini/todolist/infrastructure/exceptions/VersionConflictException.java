@@ -0,0 +1,34 @@
+package com.stefanini.todolist.infrastructure.exceptions;
+
+/**
+ * Exceção lançada quando um recurso foi alterado por outra requisição.
+ *
+ * <p>Esta exceção é utilizada no controle de concorrência otimista: a versão
+ * informada pelo cliente não corresponde mais à versão atual do recurso,
+ * indicando que ele deve recarregá-lo antes de alterar novamente.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * Construtor com mensagem de erro.
+     *
+     * @param message Mensagem descritiva do erro
+     */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor com mensagem e causa raiz.
+     *
+     * @param message Mensagem descritiva do erro
+     * @param cause Causa raiz da exceção
+     */
+    public VersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,277 @@
+package com.stefanini.todolist.infrastructure.idempotencia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.domain.entities.ChaveIdempotencia;
+import com.stefanini.todolist.domain.repositories.ChaveIdempotenciaRepository;
+import com.stefanini.todolist.infrastructure.exceptions.BusinessRuleException;
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Registro das chaves de idempotência ({@code Idempotency-Key}) da criação de tarefas.
+ *
+ * <p>A primeira requisição com uma chave cria a tarefa; as repetições com a mesma
+ * chave e o mesmo corpo recebem a tarefa já criada, lida da memória, sem acesso ao
+ * banco. Repetições concorrentes aguardam a conclusão da primeira em vez de criar
+ * outra tarefa. A mesma chave com um corpo diferente é recusada.</p>
+ *
+ * <p>As chaves ficam em um cache Caffeine limitado a
+ * {@code todolist.idempotencia.chaves-maximas} entradas e expiradas após
+ * {@code todolist.idempotencia.ttl}. A inserção da chave é atômica
+ * ({@code putIfAbsent}) e trava apenas a posição da chave na tabela de hash,
+ * de modo que chaves distintas não disputam a mesma trava.</p>
+ *
+ * <p>Com {@code todolist.idempotencia.persistente=true}, cada chave também é gravada
+ * na tabela {@code chaves_idempotencia}, na mesma transação da tarefa, com o status
+ * e o corpo da resposta original. Assim, uma repetição recebe a mesma resposta após
+ * uma reinicialização ou em outra instância, ainda que a tarefa tenha sido alterada
+ * ou removida depois. As chaves gravadas são removidas periodicamente após o mesmo TTL.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@Slf4j
+public class RegistroIdempotencia {
+
+    /**
+     * Tamanho máximo de uma chave de idempotência.
+     */
+    public static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    /**
+     * Status HTTP da resposta de uma criação bem-sucedida.
+     */
+    private static final int STATUS_CRIADA = HttpStatus.CREATED.value();
+
+    private final TarefaService tarefaService;
+    private final ChaveIdempotenciaRepository chaveRepository;
+    private final TransactionTemplate transacao;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Registro> registros;
+    private final Duration ttl;
+    private final boolean persistente;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Cria o registro de chaves de idempotência.
+     *
+     * @param tarefaService Serviço usado na criação das tarefas
+     * @param chaveRepository Repositório das chaves gravadas
+     * @param transacao Modelo de transação da criação com chave persistente
+     * @param objectMapper Serializador da resposta original gravada com a chave
+     * @param chavesMaximas Quantidade máxima de chaves mantidas em memória
+     * @param ttl Tempo durante o qual uma chave é reconhecida
+     * @param persistente Se as chaves também são gravadas no banco
+     */
+    public RegistroIdempotencia(TarefaService tarefaService,
+                                ChaveIdempotenciaRepository chaveRepository,
+                                TransactionTemplate transacao,
+                                ObjectMapper objectMapper,
+                                @Value("${todolist.idempotencia.chaves-maximas:100000}") long chavesMaximas,
+                                @Value("${todolist.idempotencia.ttl:24h}") Duration ttl,
+                                @Value("${todolist.idempotencia.persistente:false}") boolean persistente) {
+        this.tarefaService = tarefaService;
+        this.chaveRepository = chaveRepository;
+        this.transacao = transacao;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.persistente = persistente;
+        this.registros = Caffeine.newBuilder()
+                .maximumSize(chavesMaximas)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Cria a tarefa, ou devolve a resposta da criação anterior com a mesma chave.
+     *
+     * @param chave Valor do cabeçalho {@code Idempotency-Key}
+     * @param createDTO Dados da tarefa a ser criada
+     * @return Resposta e indicação de que a requisição é uma repetição
+     * @throws InvalidDataException se a chave for vazia ou muito longa
+     * @throws BusinessRuleException se a chave já foi usada com outro corpo
+     */
+    public Resultado criar(String chave, TarefaCreateDTO createDTO) {
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new InvalidDataException(
+                    "Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+
+        String impressao = impressao(createDTO);
+        Registro novo = new Registro(impressao, new CompletableFuture<>());
+        Registro existente = registros.asMap().putIfAbsent(chave, novo);
+        if (existente != null) {
+            verificarImpressao(chave, existente.impressao(), impressao);
+            return new Resultado(aguardar(existente.tarefa()), STATUS_CRIADA, true);
+        }
+
+        try {
+            Resultado resultado = persistente
+                    ? criarPersistindo(chave, impressao, createDTO)
+                    : new Resultado(tarefaService.criar(createDTO), STATUS_CRIADA, false);
+            novo.tarefa().complete(resultado.tarefa());
+            return resultado;
+        } catch (RuntimeException e) {
+            // Sem tarefa criada, a chave é liberada para uma nova tentativa
+            registros.asMap().remove(chave, novo);
+            novo.tarefa().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove do banco as chaves gravadas há mais tempo que o TTL.
+     */
+    @Scheduled(fixedDelayString = "${todolist.idempotencia.limpeza-ms:3600000}")
+    public void removerExpiradas() {
+        if (!persistente) {
+            return;
+        }
+        LocalDateTime limite = LocalDateTime.now().minus(ttl);
+        Integer removidas = transacao.execute(status -> chaveRepository.deleteByDataCriacaoBefore(limite));
+        log.debug("Chaves de idempotência expiradas removidas: {}", removidas);
+    }
+
+    private Resultado criarPersistindo(String chave, String impressao, TarefaCreateDTO createDTO) {
+        Optional<ChaveIdempotencia> gravada = chaveRepository.findById(chave);
+        if (gravada.isPresent()) {
+            return repetir(chave, gravada.get(), impressao);
+        }
+
+        try {
+            TarefaResponseDTO tarefa = transacao.execute(status -> {
+                TarefaResponseDTO criada = tarefaService.criar(createDTO);
+                entityManager.persist(ChaveIdempotencia.builder()
+                        .chave(chave)
+                        .impressao(impressao)
+                        .tarefaId(criada.getId())
+                        .statusResposta(STATUS_CRIADA)
+                        .corpoResposta(serializar(criada))
+                        .build());
+                entityManager.flush();
+                return criada;
+            });
+            return new Resultado(tarefa, STATUS_CRIADA, false);
+        } catch (PersistenceException | DataIntegrityViolationException e) {
+            // Outra instância gravou a mesma chave concorrentemente; a transação desta foi desfeita
+            ChaveIdempotencia concorrente = chaveRepository.findById(chave).orElseThrow(() -> e);
+            return repetir(chave, concorrente, impressao);
+        }
+    }
+
+    private Resultado repetir(String chave, ChaveIdempotencia gravada, String impressao) {
+        verificarImpressao(chave, gravada.getImpressao(), impressao);
+        if (gravada.getCorpoResposta() == null) {
+            // Chave gravada antes da V8, sem a resposta original: a tarefa é lida novamente
+            return new Resultado(tarefaService.buscarPorId(gravada.getTarefaId()), STATUS_CRIADA, true);
+        }
+        return new Resultado(desserializar(gravada.getCorpoResposta()), gravada.getStatusResposta(), true);
+    }
+
+    private String serializar(TarefaResponseDTO tarefa) {
+        try {
+            return objectMapper.writeValueAsString(tarefa);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a resposta da tarefa " + tarefa.getId(), e);
+        }
+    }
+
+    private TarefaResponseDTO desserializar(String corpo) {
+        try {
+            return objectMapper.readValue(corpo, TarefaResponseDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Resposta gravada com a chave de idempotência ilegível", e);
+        }
+    }
+
+    private static void verificarImpressao(String chave, String esperada, String recebida) {
+        if (!esperada.equals(recebida)) {
+            throw new BusinessRuleException(
+                    "Idempotency-Key '" + chave + "' já utilizada com outro corpo de requisição");
+        }
+    }
+
+    private static TarefaResponseDTO aguardar(CompletableFuture<TarefaResponseDTO> tarefa) {
+        try {
+            return tarefa.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Impressão digital do corpo: SHA-256 (hexadecimal) da forma canônica dos campos.
+     *
+     * <p>Cada campo é precedido do seu tamanho (ou {@code -1} se nulo), de modo que
+     * corpos distintos nunca tenham a mesma forma canônica.</p>
+     */
+    static String impressao(TarefaCreateDTO createDTO) {
+        StringBuilder canonico = new StringBuilder();
+        acrescentar(canonico, createDTO.getTitulo());
+        acrescentar(canonico, createDTO.getDescricao());
+        acrescentar(canonico, createDTO.getStatus() != null ? createDTO.getStatus().name() : null);
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(canonico.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda implementação da plataforma Java
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void acrescentar(StringBuilder canonico, String campo) {
+        if (campo == null) {
+            canonico.append("-1:");
+        } else {
+            canonico.append(campo.length()).append(':').append(campo);
+        }
+    }
+
+    /**
+     * Resultado da criação idempotente.
+     *
+     * @param tarefa Corpo da resposta: a tarefa criada agora ou como respondida à requisição original
+     * @param status Status HTTP da resposta
+     * @param repetida Se a requisição é uma repetição de outra já processada
+     */
+    public record Resultado(TarefaResponseDTO tarefa, int status, boolean repetida) {
+    }
+
+    /**
+     * Chave em memória: impressão do corpo original e a tarefa criada (ou em criação).
+     */
+    private record Registro(String impressao, CompletableFuture<TarefaResponseDTO> tarefa) {
+    }
+}
@@ -0,0 +1,285 @@
+package com.stefanini.todolist.infrastructure.ingestao;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stefanini.todolist.application.dtos.IngestaoTarefaDTO;
+import com.stefanini.todolist.application.dtos.ResultadoLoteDTO;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.infrastructure.exceptions.QueueFullException;
+import com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Fila de ingestão de tarefas com gravação em grupo (<i>group commit</i>).
+ *
+ * <p>Cada tarefa enviada recebe um token de correlação e é colocada em uma fila
+ * limitada. Uma única thread de gravação retira as tarefas da fila e as grava em
+ * grupos de até {@code todolist.ingestao.grupo-maximo} tarefas, ou o que chegar
+ * em {@code todolist.ingestao.janela-ms} após a primeira do grupo, em uma única
+ * transação ({@link TarefaService#criarEmLote}). Assim, milhares de criações por
+ * segundo custam dezenas de commits, e não milhares.</p>
+ *
+ * <p>O envio só é confirmado ao cliente após o commit do grupo que contém a
+ * tarefa; nada confirmado é perdido. A fila fica em memória e não é confirmada
+ * antes da gravação: torná-la durável exigiria um commit por envio, justamente o
+ * custo que a gravação em grupo evita. A situação de cada envio pode ser
+ * consultada pelo token durante {@code todolist.ingestao.retencao}.</p>
+ *
+ * <p>Com a fila cheia, o envio é recusado com {@link QueueFullException}.
+ * No encerramento da aplicação, as tarefas já enfileiradas são gravadas.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@ConditionalOnProperty(prefix = "todolist.ingestao", name = "habilitada", havingValue = "true")
+@Slf4j
+public class FilaIngestaoTarefas {
+
+    /**
+     * Tempo máximo de espera pela gravação das tarefas pendentes no encerramento.
+     */
+    private static final Duration ESPERA_ENCERRAMENTO = Duration.ofSeconds(30);
+
+    private final TarefaService tarefaService;
+    private final int grupoMaximo;
+    private final long janelaNanos;
+    private final BlockingQueue<Envio> fila;
+    private final Cache<String, IngestaoTarefaDTO> situacoes;
+    private final Timer tempoGravacao;
+    private final DistributionSummary tamanhoGrupo;
+    private final Counter recusadas;
+    private final Thread gravador;
+    private volatile boolean ativa = true;
+
+    /**
+     * Cria a fila de ingestão.
+     *
+     * @param tarefaService Serviço usado na gravação de cada grupo
+     * @param meterRegistry Registro de métricas
+     * @param tamanhoFila Quantidade máxima de tarefas aguardando gravação
+     * @param grupoMaximo Quantidade máxima de tarefas por grupo (transação)
+     * @param tamanhoMaximoLote Tamanho máximo de lote aceito por {@link TarefaService#criarEmLote}
+     * @param janelaMs Tempo máximo de espera por novas tarefas após a primeira do grupo
+     * @param retencao Tempo durante o qual a situação de cada envio pode ser consultada
+     * @param retencaoMaxima Quantidade máxima de situações mantidas para consulta
+     * @throws IllegalArgumentException se {@code grupoMaximo} estiver fora de 1..{@code tamanhoMaximoLote}
+     */
+    public FilaIngestaoTarefas(TarefaService tarefaService,
+                               MeterRegistry meterRegistry,
+                               @Value("${todolist.ingestao.fila-maxima:10000}") int tamanhoFila,
+                               @Value("${todolist.ingestao.grupo-maximo:500}") int grupoMaximo,
+                               @Value("${todolist.lote.tamanho-maximo:1000}") int tamanhoMaximoLote,
+                               @Value("${todolist.ingestao.janela-ms:10}") long janelaMs,
+                               @Value("${todolist.ingestao.retencao:10m}") Duration retencao,
+                               @Value("${todolist.ingestao.retencao-maxima:100000}") long retencaoMaxima) {
+        if (grupoMaximo < 1 || grupoMaximo > tamanhoMaximoLote) {
+            // Um grupo maior que o lote seria recusado por inteiro por criarEmLote a cada gravação
+            throw new IllegalArgumentException("todolist.ingestao.grupo-maximo (" + grupoMaximo
+                    + ") deve estar entre 1 e todolist.lote.tamanho-maximo (" + tamanhoMaximoLote + ")");
+        }
+        this.tarefaService = tarefaService;
+        this.grupoMaximo = grupoMaximo;
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.fila = new ArrayBlockingQueue<>(tamanhoFila);
+        this.situacoes = Caffeine.newBuilder()
+                .maximumSize(retencaoMaxima)
+                .expireAfterWrite(retencao)
+                .build();
+
+        Gauge.builder("todolist.ingestao.fila", fila, BlockingQueue::size)
+                .description("Tarefas aguardando gravação")
+                .register(meterRegistry);
+        this.tempoGravacao = Timer.builder("todolist.ingestao.gravacao")
+                .description("Duração da gravação de cada grupo (transação e commit)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tamanhoGrupo = DistributionSummary.builder("todolist.ingestao.grupo")
+                .description("Quantidade de tarefas por grupo gravado")
+                .register(meterRegistry);
+        this.recusadas = Counter.builder("todolist.ingestao.recusadas")
+                .description("Envios recusados por fila cheia")
+                .register(meterRegistry);
+
+        this.gravador = Thread.ofPlatform().name("ingestao-tarefas").unstarted(this::gravar);
+    }
+
+    /**
+     * Inicia a thread de gravação.
+     */
+    @PostConstruct
+    public void iniciar() {
+        gravador.start();
+    }
+
+    /**
+     * Deixa de aceitar envios e aguarda a gravação das tarefas já enfileiradas.
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        ativa = false;
+        if (gravador.isAlive() && !gravador.join(ESPERA_ENCERRAMENTO)) {
+            log.warn("Ingestão encerrada com {} tarefas não gravadas", fila.size());
+        }
+    }
+
+    /**
+     * Enfileira uma tarefa para gravação.
+     *
+     * @param createDTO Dados da tarefa (já validados)
+     * @return Recibo com o token e o resultado futuro da gravação
+     * @throws QueueFullException se a fila estiver cheia ou a ingestão encerrada
+     */
+    public Recibo enviar(TarefaCreateDTO createDTO) {
+        if (!ativa) {
+            throw new QueueFullException("Ingestão de tarefas encerrada");
+        }
+
+        String token = UUID.randomUUID().toString();
+        Envio envio = new Envio(token, createDTO, new CompletableFuture<>());
+        // A situação é registrada antes de enfileirar: a gravação pode concluir antes do retorno de offer
+        situacoes.put(token, IngestaoTarefaDTO.builder().token(token).situacao(IngestaoTarefaDTO.Situacao.PENDENTE).build());
+        if (!fila.offer(envio)) {
+            situacoes.invalidate(token);
+            recusadas.increment();
+            throw new QueueFullException("Fila de ingestão cheia. Por favor, tente novamente.");
+        }
+        return new Recibo(token, envio.resultado());
+    }
+
+    /**
+     * Consulta a situação de um envio.
+     *
+     * @param token Token devolvido no envio
+     * @return Situação atual do envio
+     * @throws ResourceNotFoundException se o token for desconhecido ou tiver expirado
+     */
+    public IngestaoTarefaDTO consultar(String token) {
+        IngestaoTarefaDTO situacao = situacoes.getIfPresent(token);
+        if (situacao == null) {
+            throw new ResourceNotFoundException("Envio não encontrado com token: " + token);
+        }
+        return situacao;
+    }
+
+    /**
+     * Laço da thread de gravação: monta e grava grupos até o encerramento e o esvaziamento da fila.
+     */
+    private void gravar() {
+        List<Envio> grupo = new ArrayList<>(grupoMaximo);
+        while (ativa || !fila.isEmpty()) {
+            try {
+                Envio primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                grupo.add(primeiro);
+                completarGrupo(grupo);
+                gravarGrupo(grupo);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erro inesperado na ingestão de tarefas", e);
+            } finally {
+                grupo.clear();
+            }
+        }
+    }
+
+    /**
+     * Acrescenta ao grupo as tarefas que chegarem dentro da janela, até o tamanho máximo.
+     */
+    private void completarGrupo(List<Envio> grupo) throws InterruptedException {
+        long limite = System.nanoTime() + janelaNanos;
+        while (grupo.size() < grupoMaximo) {
+            fila.drainTo(grupo, grupoMaximo - grupo.size());
+            long restante = limite - System.nanoTime();
+            if (grupo.size() >= grupoMaximo || restante <= 0) {
+                return;
+            }
+            Envio proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            grupo.add(proximo);
+        }
+    }
+
+    /**
+     * Grava o grupo em uma única transação e conclui cada envio com o seu resultado.
+     */
+    private void gravarGrupo(List<Envio> grupo) {
+        long inicio = System.nanoTime();
+        try {
+            List<TarefaCreateDTO> tarefas = grupo.stream().map(Envio::tarefa).toList();
+            ResultadoLoteDTO resultado = tarefaService.criarEmLote(tarefas);
+
+            Map<Integer, List<String>> falhas = resultado.getFalhas().stream()
+                    .collect(Collectors.toMap(ResultadoLoteDTO.Falha::getIndice, ResultadoLoteDTO.Falha::getErros));
+            Iterator<TarefaResponseDTO> criadas = resultado.getCriadas().iterator();
+            for (int indice = 0; indice < grupo.size(); indice++) {
+                List<String> erros = falhas.get(indice);
+                concluir(grupo.get(indice), erros == null ? criadas.next() : null, erros);
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar grupo de {} tarefas", grupo.size(), e);
+            List<String> erros = List.of("Falha ao gravar a tarefa. Por favor, envie novamente.");
+            grupo.forEach(envio -> concluir(envio, null, erros));
+        } finally {
+            tempoGravacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            tamanhoGrupo.record(grupo.size());
+        }
+    }
+
+    private void concluir(Envio envio, TarefaResponseDTO tarefa, List<String> erros) {
+        IngestaoTarefaDTO situacao = IngestaoTarefaDTO.builder()
+                .token(envio.token())
+                .situacao(tarefa != null ? IngestaoTarefaDTO.Situacao.CRIADA : IngestaoTarefaDTO.Situacao.REJEITADA)
+                .tarefa(tarefa)
+                .erros(erros)
+                .build();
+        situacoes.put(envio.token(), situacao);
+        envio.resultado().complete(situacao);
+    }
+
+    /**
+     * Recibo de um envio.
+     *
+     * @param token Token de correlação, para consulta posterior da situação
+     * @param resultado Situação final do envio, concluída após a gravação do grupo
+     */
+    public record Recibo(String token, CompletableFuture<IngestaoTarefaDTO> resultado) {
+    }
+
+    /**
+     * Tarefa aguardando gravação.
+     */
+    private record Envio(String token, TarefaCreateDTO tarefa, CompletableFuture<IngestaoTarefaDTO> resultado) {
+    }
+}
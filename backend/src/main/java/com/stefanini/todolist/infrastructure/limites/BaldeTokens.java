@@ -0,0 +1,57 @@
+package com.stefanini.todolist.infrastructure.limites;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens sem travas, implementado como GCRA (<i>generic cell rate algorithm</i>).
+ *
+ * <p>Em vez de um contador de tokens reabastecido periodicamente, o balde guarda
+ * um único valor: o instante teórico em que ele estaria cheio novamente. Cada
+ * requisição avança esse instante em um intervalo ({@code 1 / porSegundo}) e é
+ * recusada se ele ultrapassar o momento atual em mais que a capacidade. O estado
+ * é um {@link AtomicLong} atualizado por compare-and-set.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+final class BaldeTokens {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+    private final AtomicLong cheioEm;
+
+    /**
+     * Cria um balde cheio.
+     *
+     * @param capacidade Quantidade máxima de requisições em rajada
+     * @param porSegundo Requisições por segundo repostas ao balde
+     * @param agora Instante atual, em nanossegundos ({@link System#nanoTime()})
+     */
+    BaldeTokens(int capacidade, double porSegundo, long agora) {
+        this.intervaloNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / porSegundo));
+        this.toleranciaNanos = (capacidade - 1) * intervaloNanos;
+        this.cheioEm = new AtomicLong(agora);
+    }
+
+    /**
+     * Consome um token, se houver.
+     *
+     * @param agora Instante atual, em nanossegundos ({@link System#nanoTime()})
+     * @return Zero se o token foi consumido; senão, nanossegundos até o próximo token
+     */
+    long consumir(long agora) {
+        while (true) {
+            long atual = cheioEm.get();
+            long base = Math.max(atual, agora);
+            long espera = base - agora - toleranciaNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (cheioEm.compareAndSet(atual, base + intervaloNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.stefanini.todolist.infrastructure.limites;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stefanini.todolist.infrastructure.exceptions.RateLimitExceededException;
+import com.stefanini.todolist.infrastructure.exceptions.ServiceOverloadedException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limites de requisições por cliente e por endpoint, com descarte antecipado sob saturação.
+ *
+ * <p>Cada par cliente e endpoint (método e padrão da rota, por exemplo
+ * {@code GET /api/tarefas/status/{status}}) tem um {@link BaldeTokens} próprio,
+ * com capacidade e reposição definidas pela categoria do endpoint:
+ * <ul>
+ *   <li>{@code listagem} - listagens custosas ({@code todolist.limites.listagem.endpoints})</li>
+ *   <li>{@code leitura} - demais requisições GET</li>
+ *   <li>{@code escrita} - POST, PUT, PATCH e DELETE</li>
+ * </ul>
+ * Ao esgotar o balde, a requisição é recusada com 429 e {@code Retry-After}.</p>
+ *
+ * <p>Enquanto as threads aguardando conexão do HikariCP somarem ao menos
+ * {@code todolist.limites.descarte.fracao-pool} do tamanho máximo do pool, as
+ * listagens são recusadas com 503 e {@code Retry-After}, antes de qualquer acesso
+ * ao banco, preservando as conexões para leituras por ID e escritas.</p>
+ *
+ * <p>O cliente é identificado pelo cabeçalho {@code todolist.limites.cabecalho-cliente},
+ * quando configurado e presente, ou pelo endereço remoto. Se o endereço remoto for
+ * um dos {@code todolist.limites.proxies-confiaveis}, o cliente é o último endereço
+ * de {@code X-Forwarded-For} que não pertence a um proxy confiável; o cabeçalho
+ * enviado por qualquer outro endereço é ignorado, pois pode ser forjado. Os baldes
+ * de clientes inativos são descartados. As recusas são contadas na métrica
+ * {@code todolist.limites.recusadas}, por motivo e categoria.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@Slf4j
+public class LimitadorRequisicoes implements HandlerInterceptor {
+
+    /**
+     * Categoria de limite de um endpoint.
+     */
+    enum Categoria {
+        LISTAGEM,
+        LEITURA,
+        ESCRITA
+    }
+
+    /**
+     * Tempo sem requisições após o qual o balde de um cliente é descartado.
+     */
+    private static final Duration INATIVIDADE = Duration.ofMinutes(10);
+
+    private static final String METRICA_RECUSADAS = "todolist.limites.recusadas";
+
+    private static final String CABECALHO_ENCAMINHADO = "X-Forwarded-For";
+
+    private final boolean habilitado;
+    private final String cabecalhoCliente;
+    private final Set<String> proxiesConfiaveis;
+    private final Set<String> listagens;
+    private final Limite[] limites;
+    private final double fracaoPool;
+    private final Cache<String, BaldeTokens> baldes;
+    private final ObjectProvider<DataSource> dataSource;
+    private final Counter[] recusadasPorLimite;
+    private final Counter recusadasPorSaturacao;
+    private volatile int aguardandoConexao;
+    private volatile HikariPoolMXBean pool;
+
+    /**
+     * Cria o limitador de requisições.
+     *
+     * @param dataSource Fonte de dados, usada na verificação de saturação do pool
+     * @param meterRegistry Registro de métricas
+     * @param habilitado Se os limites são aplicados
+     * @param cabecalhoCliente Cabeçalho que identifica o cliente (vazio usa o endereço remoto)
+     * @param proxiesConfiaveis Endereços dos proxies cujo {@code X-Forwarded-For} é aceito
+     * @param listagens Padrões das rotas GET tratadas como listagens custosas
+     * @param listagemCapacidade Rajada máxima de listagens por cliente e endpoint
+     * @param listagemPorSegundo Listagens por segundo por cliente e endpoint
+     * @param leituraCapacidade Rajada máxima de leituras por cliente e endpoint
+     * @param leituraPorSegundo Leituras por segundo por cliente e endpoint
+     * @param escritaCapacidade Rajada máxima de escritas por cliente e endpoint
+     * @param escritaPorSegundo Escritas por segundo por cliente e endpoint
+     * @param fracaoPool Fração do tamanho máximo do pool em threads aguardando conexão a partir da qual as listagens são descartadas (0 desativa)
+     * @param clientesMaximos Quantidade máxima de baldes mantidos em memória
+     */
+    public LimitadorRequisicoes(ObjectProvider<DataSource> dataSource,
+                                MeterRegistry meterRegistry,
+                                @Value("${todolist.limites.habilitado:false}") boolean habilitado,
+                                @Value("${todolist.limites.cabecalho-cliente:}") String cabecalhoCliente,
+                                @Value("${todolist.limites.proxies-confiaveis:}") Set<String> proxiesConfiaveis,
+                                @Value("${todolist.limites.listagem.endpoints:/api/tarefas,/api/tarefas/status/{status},/api/tarefas/pagina,/api/tarefas/busca,/api/tarefas/exportar}")
+                                Set<String> listagens,
+                                @Value("${todolist.limites.listagem.capacidade:20}") int listagemCapacidade,
+                                @Value("${todolist.limites.listagem.por-segundo:10}") double listagemPorSegundo,
+                                @Value("${todolist.limites.leitura.capacidade:100}") int leituraCapacidade,
+                                @Value("${todolist.limites.leitura.por-segundo:50}") double leituraPorSegundo,
+                                @Value("${todolist.limites.escrita.capacidade:50}") int escritaCapacidade,
+                                @Value("${todolist.limites.escrita.por-segundo:20}") double escritaPorSegundo,
+                                @Value("${todolist.limites.descarte.fracao-pool:0.5}") double fracaoPool,
+                                @Value("${todolist.limites.clientes-maximos:100000}") long clientesMaximos) {
+        this.dataSource = dataSource;
+        this.habilitado = habilitado;
+        this.cabecalhoCliente = cabecalhoCliente;
+        this.proxiesConfiaveis = Set.copyOf(proxiesConfiaveis);
+        this.listagens = Set.copyOf(listagens);
+        this.limites = new Limite[Categoria.values().length];
+        this.limites[Categoria.LISTAGEM.ordinal()] = new Limite(listagemCapacidade, listagemPorSegundo);
+        this.limites[Categoria.LEITURA.ordinal()] = new Limite(leituraCapacidade, leituraPorSegundo);
+        this.limites[Categoria.ESCRITA.ordinal()] = new Limite(escritaCapacidade, escritaPorSegundo);
+        this.fracaoPool = fracaoPool;
+        this.recusadasPorLimite = new Counter[Categoria.values().length];
+        for (Categoria categoria : Categoria.values()) {
+            this.recusadasPorLimite[categoria.ordinal()] = contadorRecusadas(meterRegistry, "limite", categoria);
+        }
+        this.recusadasPorSaturacao = contadorRecusadas(meterRegistry, "saturacao", Categoria.LISTAGEM);
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(clientesMaximos)
+                .expireAfterAccess(INATIVIDADE)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request,
+                             @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        // O despacho assíncrono apenas escreve o resultado de uma requisição já admitida
+        if (!habilitado || request.getDispatcherType() == DispatcherType.ASYNC
+                || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        String padrao = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + padrao;
+        Categoria categoria = categorizar(request.getMethod(), padrao);
+
+        if (categoria == Categoria.LISTAGEM && poolSaturado()) {
+            recusadasPorSaturacao.increment();
+            throw new ServiceOverloadedException("Serviço temporariamente sobrecarregado. Por favor, tente novamente.");
+        }
+
+        long agora = System.nanoTime();
+        Limite limite = limites[categoria.ordinal()];
+        BaldeTokens balde = baldes.get(identificarCliente(request) + " " + endpoint,
+                chave -> new BaldeTokens(limite.capacidade(), limite.porSegundo(), agora));
+        long esperaNanos = balde.consumir(agora);
+        if (esperaNanos > 0) {
+            recusadasPorLimite[categoria.ordinal()].increment();
+            long segundos = Math.max(1, (esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new RateLimitExceededException(
+                    "Limite de requisições excedido para " + endpoint + ". Tente novamente em " + segundos + "s.",
+                    segundos);
+        }
+        return true;
+    }
+
+    Categoria categorizar(String metodo, String padrao) {
+        if (!"GET".equals(metodo)) {
+            return Categoria.ESCRITA;
+        }
+        return listagens.contains(padrao) ? Categoria.LISTAGEM : Categoria.LEITURA;
+    }
+
+    private String identificarCliente(HttpServletRequest request) {
+        if (StringUtils.hasText(cabecalhoCliente)) {
+            String cliente = request.getHeader(cabecalhoCliente);
+            if (StringUtils.hasText(cliente)) {
+                return cliente;
+            }
+        }
+        String endereco = request.getRemoteAddr();
+        if (!proxiesConfiaveis.contains(endereco)) {
+            return endereco;
+        }
+        String encaminhado = request.getHeader(CABECALHO_ENCAMINHADO);
+        if (StringUtils.hasText(encaminhado)) {
+            // Percorre da direita para a esquerda: os saltos à esquerda do primeiro endereço não confiável podem ser forjados
+            String[] saltos = encaminhado.split(",");
+            for (int i = saltos.length - 1; i >= 0; i--) {
+                String salto = saltos[i].trim();
+                if (!salto.isEmpty()) {
+                    endereco = salto;
+                    if (!proxiesConfiaveis.contains(salto)) {
+                        break;
+                    }
+                }
+            }
+        }
+        return endereco;
+    }
+
+    private boolean poolSaturado() {
+        if (fracaoPool <= 0) {
+            return false;
+        }
+        HikariPoolMXBean mxBean = obterPool();
+        return mxBean != null && mxBean.getThreadsAwaitingConnection() >= aguardandoConexao;
+    }
+
+    /**
+     * Obtém o MXBean do pool, disponível apenas após a primeira conexão, e calcula
+     * a quantidade de threads aguardando conexão que caracteriza a saturação.
+     */
+    private HikariPoolMXBean obterPool() {
+        HikariPoolMXBean atual = pool;
+        if (atual != null) {
+            return atual;
+        }
+        DataSource ds = dataSource.getIfAvailable();
+        try {
+            if (ds != null && ds.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = ds.unwrap(HikariDataSource.class);
+                atual = hikari.getHikariPoolMXBean();
+                if (atual != null) {
+                    aguardandoConexao = Math.max(1, (int) Math.ceil(hikari.getMaximumPoolSize() * fracaoPool));
+                    pool = atual;
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Pool de conexões indisponível para verificação de saturação", e);
+        }
+        return atual;
+    }
+
+    private static Counter contadorRecusadas(MeterRegistry meterRegistry, String motivo, Categoria categoria) {
+        return Counter.builder(METRICA_RECUSADAS)
+                .description("Requisições recusadas por limite ou descarte sob saturação")
+                .tag("motivo", motivo)
+                .tag("categoria", categoria.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Capacidade e reposição dos baldes de uma categoria.
+     */
+    private record Limite(int capacidade, double porSegundo) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registra em log, por amostragem, as consultas lentas dos repositórios.
+ *
+ * <p>Cada invocação de método de repositório que excede
+ * {@code todolist.sql.lenta-ms} é contada na métrica {@code todolist.sql.lentas},
+ * mas no máximo {@code todolist.sql.lentas-por-minuto} são registradas em log
+ * a cada minuto; as demais são apenas contadas e informadas no próximo registro.
+ * Assim, uma degradação do banco não se transforma em uma rajada de logs síncronos.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@Slf4j
+public class AmostradorConsultasLentas implements RepositoryMethodInvocationListener {
+
+    private static final long JANELA_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long limiteNanos;
+    private final int maximoPorMinuto;
+    private final Counter consultasLentas;
+
+    private final AtomicLong inicioJanela = new AtomicLong(System.nanoTime());
+    private final AtomicInteger registradasNaJanela = new AtomicInteger();
+    private final AtomicLong omitidas = new AtomicLong();
+
+    /**
+     * Cria o amostrador de consultas lentas.
+     *
+     * @param limiteMs Duração a partir da qual uma consulta é considerada lenta
+     * @param maximoPorMinuto Quantidade máxima de consultas lentas registradas em log por minuto
+     * @param meterRegistry Registro de métricas
+     */
+    public AmostradorConsultasLentas(@Value("${todolist.sql.lenta-ms:200}") long limiteMs,
+                                     @Value("${todolist.sql.lentas-por-minuto:10}") int maximoPorMinuto,
+                                     MeterRegistry meterRegistry) {
+        this.limiteNanos = TimeUnit.MILLISECONDS.toNanos(limiteMs);
+        this.maximoPorMinuto = maximoPorMinuto;
+        this.consultasLentas = Counter.builder("todolist.sql.lentas")
+                .description("Consultas de repositório acima do limite de lentidão")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Avalia a duração da invocação e registra as consultas lentas amostradas.
+     *
+     * @param invocation Invocação do método de repositório
+     */
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        long duracao = invocation.getDuration(TimeUnit.NANOSECONDS);
+        if (duracao < limiteNanos) {
+            return;
+        }
+
+        consultasLentas.increment();
+        if (!permitirRegistro()) {
+            omitidas.incrementAndGet();
+            return;
+        }
+
+        long omitidasAnteriores = omitidas.getAndSet(0);
+        log.warn("Consulta lenta: {}.{} em {} ms (resultado: {}, consultas lentas omitidas desde o último registro: {})",
+                invocation.getRepositoryInterface().getSimpleName(),
+                invocation.getMethod().getName(),
+                TimeUnit.NANOSECONDS.toMillis(duracao),
+                invocation.getResult().getState(),
+                omitidasAnteriores);
+    }
+
+    /**
+     * Verifica se ainda há cota de registros na janela de um minuto atual.
+     */
+    boolean permitirRegistro() {
+        long agora = System.nanoTime();
+        long inicio = inicioJanela.get();
+        if (agora - inicio >= JANELA_NANOS && inicioJanela.compareAndSet(inicio, agora)) {
+            registradasNaJanela.set(0);
+        }
+        return registradasNaJanela.incrementAndGet() <= maximoPorMinuto;
+    }
+}
@@ -0,0 +1,105 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede cada operação do {@code TarefaService}.
+ *
+ * <p>Para cada método são publicados:
+ * <ul>
+ *   <li>{@code todolist.tarefas.operacoes} - timer com histograma de percentis,
+ *       com as tags {@code operacao} e {@code resultado} ({@code sucesso}/{@code erro})</li>
+ *   <li>{@code todolist.tarefas.resultado.tamanho} - distribuição da quantidade de itens
+ *       retornados, apenas para os métodos que devolvem coleções</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Os medidores são criados uma única vez por método e mantidos em cache;
+ * depois do aquecimento, cada chamada custa uma consulta ao mapa e duas leituras
+ * de {@link System#nanoTime()}, sem alocações. O aspecto envolve os proxies de
+ * cache e de transação, de modo que acertos de cache também são medidos.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasTarefaServiceAspect {
+
+    static final String METRICA_OPERACOES = "todolist.tarefas.operacoes";
+    static final String METRICA_TAMANHO = "todolist.tarefas.resultado.tamanho";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, Medidores> medidores = new ConcurrentHashMap<>();
+
+    public MetricasTarefaServiceAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Mede a duração e, quando aplicável, o tamanho do resultado da operação.
+     *
+     * @param joinPoint Chamada interceptada
+     * @return Resultado da operação
+     * @throws Throwable Exceção lançada pela operação, repassada sem alteração
+     */
+    @Around("execution(public * com.stefanini.todolist.application.services.TarefaService.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Medidores medidoresMetodo = medidores.computeIfAbsent(metodo, this::criarMedidores);
+
+        long inicio = System.nanoTime();
+        try {
+            Object resultado = joinPoint.proceed();
+            medidoresMetodo.sucesso().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            if (medidoresMetodo.tamanho() != null && resultado instanceof Collection<?> colecao) {
+                medidoresMetodo.tamanho().record(colecao.size());
+            }
+            return resultado;
+        } catch (Throwable e) {
+            medidoresMetodo.erro().record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Medidores criarMedidores(Method metodo) {
+        String operacao = metodo.getName();
+        DistributionSummary tamanho = Collection.class.isAssignableFrom(metodo.getReturnType())
+                ? DistributionSummary.builder(METRICA_TAMANHO)
+                        .description("Quantidade de tarefas retornadas por operação")
+                        .tag("operacao", operacao)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                : null;
+        return new Medidores(timer(operacao, "sucesso"), timer(operacao, "erro"), tamanho);
+    }
+
+    private Timer timer(String operacao, String resultado) {
+        return Timer.builder(METRICA_OPERACOES)
+                .description("Duração das operações do TarefaService")
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record Medidores(Timer sucesso, Timer erro, DistributionSummary tamanho) {
+    }
+}
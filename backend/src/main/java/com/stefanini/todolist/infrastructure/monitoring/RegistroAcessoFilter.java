@@ -0,0 +1,107 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registra um único log de acesso por requisição HTTP.
+ *
+ * <p>Cada registro contém método, caminho, status, latência e, quando informada
+ * pelo controller via {@link #registrarLinhas(int)}, a quantidade de linhas
+ * retornadas. Os registros usam o logger {@code todolist.acesso}, que o
+ * {@code logback-spring.xml} direciona para um appender assíncrono: a thread
+ * da requisição apenas enfileira o evento, sem esperar pela escrita.</p>
+ *
+ * <p>Em requisições assíncronas (SSE, exportação em streaming) o registro é feito
+ * ao final da resposta, e não ao término do primeiro despacho.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+public class RegistroAcessoFilter extends OncePerRequestFilter {
+
+    static final String ATRIBUTO_LINHAS = RegistroAcessoFilter.class.getName() + ".linhas";
+
+    private static final Logger LOG_ACESSO = LoggerFactory.getLogger("todolist.acesso");
+
+    /**
+     * Informa a quantidade de linhas retornadas pela requisição atual.
+     *
+     * @param linhas Quantidade de linhas
+     */
+    public static void registrarLinhas(int linhas) {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos != null) {
+            atributos.setAttribute(ATRIBUTO_LINHAS, linhas, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!LOG_ACESSO.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RegistroAoConcluir(inicio));
+            } else {
+                registrar(request, response, inicio);
+            }
+        }
+    }
+
+    private static void registrar(HttpServletRequest request, HttpServletResponse response, long inicio) {
+        long latenciaMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        Object linhas = request.getAttribute(ATRIBUTO_LINHAS);
+        LOG_ACESSO.info("{} {} {} {}ms linhas={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), latenciaMs,
+                linhas != null ? linhas : "-");
+    }
+
+    /**
+     * Registra o acesso ao término de uma requisição assíncrona.
+     */
+    private record RegistroAoConcluir(long inicio) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            registrar((HttpServletRequest) event.getSuppliedRequest(),
+                    (HttpServletResponse) event.getSuppliedResponse(), inicio);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.stefanini.todolist.infrastructure.search;
+
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
+import com.stefanini.todolist.infrastructure.exceptions.ServiceOverloadedException;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.br.BrazilianAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice invertido (Apache Lucene) sobre o título e a descrição das tarefas.
+ *
+ * <p>Substitui as consultas {@code LIKE '%texto%'}, que não podem usar índice,
+ * por buscas em um índice textual com análise em português (minúsculas,
+ * stopwords e radicalização) e ranqueamento BM25. O título tem peso maior
+ * que a descrição.</p>
+ *
+ * <p>O índice armazena apenas o ID de cada tarefa; os dados são lidos do banco
+ * pela chave primária. Escritas ficam visíveis para a busca após
+ * {@link #atualizarLeitor()}. Todos os métodos são thread-safe.</p>
+ *
+ * <p>O índice começa indisponível: buscas são recusadas até {@link #marcarPronto()},
+ * chamado quando a carga inicial termina, para não retornar resultados parciais.
+ * O conteúdo é derivado do banco e recriado a cada inicialização; o commit em
+ * {@link #close()} apenas deixa um índice consistente no diretório.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public class IndiceBuscaTarefas implements Closeable {
+
+    static final String CAMPO_ID = "id";
+    static final String CAMPO_TITULO = "titulo";
+    static final String CAMPO_DESCRICAO = "descricao";
+
+    private static final String[] CAMPOS_BUSCA = {CAMPO_TITULO, CAMPO_DESCRICAO};
+    private static final Map<String, Float> PESOS = Map.of(CAMPO_TITULO, 2.0f, CAMPO_DESCRICAO, 1.0f);
+
+    private final Directory diretorio;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private volatile boolean pronto;
+
+    /**
+     * Resultado de uma busca: IDs da página em ordem de relevância e total encontrado.
+     *
+     * @param ids IDs das tarefas da página, da mais para a menos relevante
+     * @param total Quantidade total de tarefas que atendem à busca
+     */
+    public record ResultadoBusca(List<Long> ids, long total) {
+    }
+
+    /**
+     * Cria um índice vazio no diretório informado.
+     * Conteúdo pré-existente no diretório é descartado.
+     *
+     * @param diretorio Diretório do índice (em memória ou em disco)
+     * @throws IOException se o índice não puder ser criado
+     */
+    public IndiceBuscaTarefas(Directory diretorio) throws IOException {
+        this.diretorio = diretorio;
+        this.analyzer = new BrazilianAnalyzer();
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        this.writer = new IndexWriter(diretorio, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Inclui ou substitui uma tarefa no índice.
+     *
+     * @param id ID da tarefa
+     * @param titulo Título da tarefa
+     * @param descricao Descrição da tarefa (opcional)
+     */
+    public void indexar(Long id, String titulo, String descricao) {
+        Document documento = new Document();
+        documento.add(new StringField(CAMPO_ID, id.toString(), Field.Store.YES));
+        documento.add(new TextField(CAMPO_TITULO, titulo, Field.Store.NO));
+        if (descricao != null) {
+            documento.add(new TextField(CAMPO_DESCRICAO, descricao, Field.Store.NO));
+        }
+
+        try {
+            writer.updateDocument(new Term(CAMPO_ID, id.toString()), documento);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Remove uma tarefa do índice.
+     *
+     * @param id ID da tarefa
+     */
+    public void remover(Long id) {
+        try {
+            writer.deleteDocuments(new Term(CAMPO_ID, id.toString()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Torna as escritas recentes visíveis e libera o índice para buscas.
+     */
+    public void marcarPronto() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        pronto = true;
+    }
+
+    /**
+     * Indica se a carga inicial do índice terminou.
+     *
+     * @return {@code true} se o índice já atende buscas
+     */
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    /**
+     * Torna as escritas recentes visíveis para as próximas buscas.
+     * Não bloqueia se outra atualização já estiver em andamento.
+     */
+    public void atualizarLeitor() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Busca tarefas pelo texto informado, ordenadas por relevância.
+     * Todos os termos devem estar presentes no título ou na descrição.
+     *
+     * @param termo Texto a ser buscado (caracteres de sintaxe são tratados como texto)
+     * @param inicio Posição do primeiro resultado da página
+     * @param limite Quantidade máxima de resultados da página
+     * @return IDs da página e total encontrado
+     * @throws ServiceOverloadedException se o índice ainda estiver em carga
+     */
+    public ResultadoBusca buscar(String termo, int inicio, int limite) {
+        if (!pronto) {
+            throw new ServiceOverloadedException(
+                    "Índice de busca em construção. Por favor, tente novamente.");
+        }
+        Query query = criarQuery(termo);
+        if (query == null) {
+            return new ResultadoBusca(List.of(), 0);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, inicio + limite);
+                StoredFields camposArmazenados = searcher.storedFields();
+
+                List<Long> ids = new ArrayList<>(limite);
+                for (int i = inicio; i < topDocs.scoreDocs.length; i++) {
+                    Document documento = camposArmazenados.document(topDocs.scoreDocs[i].doc);
+                    ids.add(Long.valueOf(documento.get(CAMPO_ID)));
+                }
+
+                long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(query);
+                return new ResultadoBusca(ids, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Confirma as escritas pendentes, fecha o índice e libera os recursos.
+     *
+     * @throws IOException se ocorrer erro ao fechar o índice
+     */
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        analyzer.close();
+        diretorio.close();
+    }
+
+    /**
+     * Converte o texto do usuário em uma consulta sobre título e descrição.
+     *
+     * @param termo Texto a ser buscado
+     * @return Consulta, ou {@code null} se o texto não contiver termos pesquisáveis
+     */
+    private Query criarQuery(String termo) {
+        // O QueryParser não é thread-safe: uma instância por busca
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(CAMPOS_BUSCA, analyzer, PESOS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(QueryParser.escape(termo));
+        } catch (ParseException ex) {
+            throw new InvalidDataException("Termo de busca inválido: " + termo, ex);
+        }
+    }
+}
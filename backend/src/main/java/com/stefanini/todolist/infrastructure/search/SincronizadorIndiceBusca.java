@@ -0,0 +1,103 @@
+package com.stefanini.todolist.infrastructure.search;
+
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.domain.entities.Tarefa;
+import com.stefanini.todolist.domain.repositories.TarefaRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Mantém o {@link IndiceBuscaTarefas} sincronizado com o banco de dados.
+ *
+ * <p>O índice é carregado a partir do banco na inicialização e, em seguida,
+ * atualizado a cada {@link TarefaEvento} confirmado. As escritas ficam visíveis
+ * para a busca em até {@code todolist.busca.atualizacao-ms} milissegundos.</p>
+ *
+ * <p>Durante a carga a busca responde 503. Eventos recebidos nesse intervalo são
+ * aplicados imediatamente e as tarefas correspondentes são ignoradas pela carga,
+ * cuja leitura pode ser anterior à alteração.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SincronizadorIndiceBusca {
+
+    /**
+     * Quantidade de tarefas indexadas entre cada limpeza do contexto de persistência.
+     */
+    private static final int TAREFAS_POR_LIMPEZA = 1000;
+
+    private final IndiceBuscaTarefas indiceBusca;
+    private final TarefaRepository tarefaRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * IDs alterados por eventos enquanto a carga inicial está em andamento.
+     */
+    private final Set<Long> alteradasDuranteCarga = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Carrega o índice percorrendo todas as tarefas em stream e o libera para buscas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void reconstruir() {
+        log.info("Reconstruindo índice de busca de tarefas");
+
+        long total = 0;
+        try (Stream<Tarefa> tarefas = tarefaRepository.streamAll()) {
+            for (Tarefa tarefa : (Iterable<Tarefa>) tarefas::iterator) {
+                if (!alteradasDuranteCarga.contains(tarefa.getId())) {
+                    indiceBusca.indexar(tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao());
+                }
+                if (++total % TAREFAS_POR_LIMPEZA == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+
+        indiceBusca.marcarPronto();
+        alteradasDuranteCarga.clear();
+        log.info("Índice de busca reconstruído com {} tarefas", total);
+    }
+
+    /**
+     * Atualiza o índice após o commit de uma alteração de tarefa.
+     *
+     * @param evento Evento de alteração da tarefa
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaEvento evento) {
+        if (!indiceBusca.isPronto()) {
+            alteradasDuranteCarga.add(evento.id());
+        }
+        if (evento.tipo() == TarefaEvento.Tipo.REMOVIDA) {
+            indiceBusca.remover(evento.id());
+        } else {
+            indiceBusca.indexar(evento.id(), evento.tarefa().getTitulo(), evento.tarefa().getDescricao());
+        }
+    }
+
+    /**
+     * Torna as escritas recentes visíveis para a busca.
+     */
+    @Scheduled(fixedDelayString = "${todolist.busca.atualizacao-ms:500}")
+    public void atualizarLeitor() {
+        indiceBusca.atualizarLeitor();
+    }
+}
@@ -0,0 +1,245 @@
+package com.stefanini.todolist.infrastructure.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Difunde as alterações de tarefas para os clientes inscritos via Server-Sent Events.
+ *
+ * <p>Cada alteração confirmada é serializada uma única vez e enfileirada para
+ * todos os assinantes. Cada assinante possui uma fila limitada, esvaziada por
+ * uma thread virtual própria, de modo que um cliente lento não atrasa os demais.
+ * Quando a fila de um assinante enche, os eventos pendentes são descartados e
+ * substituídos por um evento {@code resincronizar}, que orienta o cliente a
+ * recarregar a lista.</p>
+ *
+ * <p>Eventos enviados:
+ * <ul>
+ *   <li>{@code tarefa-criada} / {@code tarefa-atualizada} - tarefa completa</li>
+ *   <li>{@code tarefa-removida} - {@code {"id": ...}}</li>
+ *   <li>{@code status-alterado} - {@code {"ids": [...], "novoStatus": ...}}</li>
+ *   <li>{@code resincronizar} - o cliente deve recarregar a lista</li>
+ * </ul>
+ * </p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@Component
+@Slf4j
+public class DifusorEventosTarefas {
+
+    static final String EVENTO_CRIADA = "tarefa-criada";
+    static final String EVENTO_ATUALIZADA = "tarefa-atualizada";
+    static final String EVENTO_REMOVIDA = "tarefa-removida";
+    static final String EVENTO_STATUS_ALTERADO = "status-alterado";
+    static final String EVENTO_RESINCRONIZAR = "resincronizar";
+
+    private static final Mensagem RESINCRONIZAR = new Mensagem(0, EVENTO_RESINCRONIZAR, "{}");
+    private static final Mensagem HEARTBEAT = new Mensagem(0, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final int tamanhoFila;
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Cria o difusor de eventos.
+     *
+     * @param objectMapper Serializador JSON da aplicação
+     * @param tamanhoFila Quantidade máxima de eventos pendentes por assinante
+     */
+    public DifusorEventosTarefas(ObjectMapper objectMapper,
+                                 @Value("${todolist.eventos.fila-maxima:256}") int tamanhoFila) {
+        this.objectMapper = objectMapper;
+        this.tamanhoFila = tamanhoFila;
+    }
+
+    /**
+     * Inscreve um novo cliente no fluxo de eventos.
+     *
+     * @return Emissor SSE vinculado à requisição do cliente
+     */
+    public SseEmitter assinar() {
+        SseEmitter emitter = new SseEmitter();
+        Assinante assinante = new Assinante(emitter, new ArrayBlockingQueue<>(tamanhoFila));
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(() -> assinantes.remove(assinante));
+        emitter.onError(erro -> assinantes.remove(assinante));
+        assinantes.add(assinante);
+        log.debug("Novo assinante de eventos. Total: {}", assinantes.size());
+        return emitter;
+    }
+
+    /**
+     * Quantidade de clientes inscritos.
+     *
+     * @return Quantidade de assinantes ativos
+     */
+    public int getQuantidadeAssinantes() {
+        return assinantes.size();
+    }
+
+    /**
+     * Publica a alteração de uma tarefa após o commit.
+     *
+     * @param evento Evento de alteração da tarefa
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarTarefa(TarefaEvento evento) {
+        switch (evento.tipo()) {
+            case CRIADA -> difundir(EVENTO_CRIADA, evento.tarefa());
+            case ATUALIZADA -> difundir(EVENTO_ATUALIZADA, evento.tarefa());
+            case REMOVIDA -> difundir(EVENTO_REMOVIDA, Map.of("id", evento.id()));
+        }
+    }
+
+    /**
+     * Publica a alteração de status em lote após o commit.
+     * Alterações por filtro não informam os IDs; nesse caso os clientes são resincronizados.
+     *
+     * @param evento Evento de alteração em lote
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarStatusEmLote(StatusAlteradoEmLoteEvento evento) {
+        if (evento.ids() == null) {
+            assinantes.forEach(assinante -> enfileirar(assinante, RESINCRONIZAR));
+        } else {
+            difundir(EVENTO_STATUS_ALTERADO, new StatusAlterado(evento.ids(), evento.novoStatus()));
+        }
+    }
+
+    /**
+     * Envia um comentário periódico para manter as conexões abertas em proxies
+     * e detectar clientes desconectados.
+     */
+    @Scheduled(fixedDelayString = "${todolist.eventos.heartbeat-ms:15000}")
+    public void enviarHeartbeat() {
+        assinantes.forEach(assinante -> enfileirar(assinante, HEARTBEAT));
+    }
+
+    /**
+     * Encerra as conexões e as threads de envio.
+     */
+    @PreDestroy
+    public void encerrar() {
+        assinantes.forEach(assinante -> assinante.emitter().complete());
+        assinantes.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Serializa o evento uma única vez e o enfileira para todos os assinantes.
+     */
+    private void difundir(String tipo, Object dados) {
+        if (assinantes.isEmpty()) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(dados);
+        } catch (JsonProcessingException ex) {
+            log.error("Erro ao serializar evento {}: {}", tipo, ex.getMessage(), ex);
+            return;
+        }
+
+        Mensagem mensagem = new Mensagem(sequencia.incrementAndGet(), tipo, json);
+        assinantes.forEach(assinante -> enfileirar(assinante, mensagem));
+    }
+
+    /**
+     * Enfileira a mensagem para o assinante, descartando os pendentes se a fila estiver cheia.
+     */
+    private void enfileirar(Assinante assinante, Mensagem mensagem) {
+        if (!assinante.fila().offer(mensagem)) {
+            log.debug("Fila de eventos cheia; assinante será resincronizado");
+            assinante.fila().clear();
+            assinante.fila().offer(RESINCRONIZAR);
+        }
+        if (assinante.enviando().compareAndSet(false, true)) {
+            executor.execute(() -> esvaziar(assinante));
+        }
+    }
+
+    /**
+     * Envia as mensagens pendentes do assinante até esvaziar a fila.
+     */
+    private void esvaziar(Assinante assinante) {
+        while (true) {
+            Mensagem mensagem = assinante.fila().poll();
+            if (mensagem == null) {
+                assinante.enviando().set(false);
+                // Outra mensagem pode ter chegado entre o poll e a liberação do envio
+                if (assinante.fila().isEmpty() || !assinante.enviando().compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                assinante.emitter().send(mensagem.paraEvento());
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Assinante desconectado: {}", ex.getMessage());
+                assinantes.remove(assinante);
+                assinante.fila().clear();
+                assinante.emitter().completeWithError(ex);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Cliente inscrito, com sua fila de envio.
+     */
+    private record Assinante(SseEmitter emitter, BlockingQueue<Mensagem> fila, AtomicBoolean enviando) {
+
+        Assinante(SseEmitter emitter, BlockingQueue<Mensagem> fila) {
+            this(emitter, fila, new AtomicBoolean());
+        }
+    }
+
+    /**
+     * Evento já serializado, compartilhado entre todos os assinantes.
+     */
+    private record Mensagem(long id, String tipo, String json) {
+
+        SseEmitter.SseEventBuilder paraEvento() {
+            if (tipo == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder evento = SseEmitter.event().name(tipo).data(json);
+            return id > 0 ? evento.id(Long.toString(id)) : evento;
+        }
+    }
+
+    /**
+     * Dados do evento de alteração de status em lote.
+     */
+    record StatusAlterado(List<Long> ids, StatusTarefa novoStatus) {
+    }
+}
@@ -0,0 +1,13 @@
+-- ===============================
+-- MIGRATION: Sequence para geracao de IDs de tarefas
+-- Descricao: Substitui a geracao por IDENTITY (que impede o batch de INSERTs
+--            no Hibernate) por um sequence com incremento 50, usado pelo
+--            otimizador pooled-lo (um acesso ao sequence a cada 50 IDs)
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-09
+-- ===============================
+-- O H2 e usado apenas em memoria (desenvolvimento e testes), onde a tabela
+-- contem somente os dados de V2; o sequence inicia acima desses registros.
+-- A coluna id (GENERATED BY DEFAULT AS IDENTITY) aceita os valores
+-- explicitos atribuidos pelo Hibernate a partir do sequence.
+CREATE SEQUENCE tarefas_seq AS BIGINT START WITH 1001 INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- ===============================
+-- MIGRATION: Versao por linha da tabela tarefas
+-- Descricao: Adiciona a coluna versao, incrementada a cada alteracao da
+--            tarefa e usada como ETag nas requisicoes condicionais (GET)
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-09
+-- ===============================
+ALTER TABLE tarefas ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
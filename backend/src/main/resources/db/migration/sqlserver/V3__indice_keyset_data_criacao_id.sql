@@ -0,0 +1,10 @@
+-- ===============================
+-- MIGRATION: Indice composto para paginacao por cursor (keyset)
+-- Descricao: Estende o indice de data_criacao com o id, permitindo que a
+--            consulta "ORDER BY data_criacao DESC, id DESC" e o predicado
+--            do cursor (data_criacao, id) sejam atendidos apenas pelo indice
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-08
+-- ===============================
+DROP INDEX idx_tarefas_data_criacao ON tarefas;
+CREATE INDEX idx_tarefas_data_criacao ON tarefas(data_criacao, id);
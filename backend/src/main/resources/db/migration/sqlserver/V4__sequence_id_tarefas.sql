@@ -0,0 +1,38 @@
+-- ===============================
+-- MIGRATION: Sequence para geracao de IDs de tarefas
+-- Descricao: Substitui a geracao por IDENTITY (que impede o batch de INSERTs
+--            no Hibernate) por um sequence com incremento 50, usado pelo
+--            otimizador pooled-lo (um acesso ao sequence a cada 50 IDs)
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-09
+-- ===============================
+-- O sequence inicia apos o maior ID existente
+DECLARE @inicio BIGINT = (SELECT COALESCE(MAX(id), 0) + 1 FROM tarefas);
+DECLARE @sql NVARCHAR(400) = N'CREATE SEQUENCE tarefas_seq AS BIGINT START WITH '
+    + CAST(@inicio AS NVARCHAR(20)) + N' INCREMENT BY 50';
+EXEC sp_executesql @sql;
+
+-- A propriedade IDENTITY nao pode ser removida de uma coluna existente:
+-- a tabela e recriada com o id alimentado pelo sequence e os dados copiados
+CREATE TABLE tarefas_nova (
+    id BIGINT NOT NULL CONSTRAINT df_tarefas_id DEFAULT (NEXT VALUE FOR tarefas_seq),
+    titulo VARCHAR(100) NOT NULL,
+    descricao VARCHAR(500),
+    data_criacao DATETIME2 NOT NULL CONSTRAINT df_tarefas_data_criacao DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao DATETIME2,
+    status VARCHAR(20) NOT NULL CONSTRAINT df_tarefas_status DEFAULT 'PENDENTE',
+    CONSTRAINT pk_tarefas PRIMARY KEY (id)
+);
+
+INSERT INTO tarefas_nova (id, titulo, descricao, data_criacao, data_atualizacao, status)
+SELECT id, titulo, descricao, data_criacao, data_atualizacao, status FROM tarefas;
+
+DROP TABLE tarefas;
+EXEC sp_rename 'tarefas_nova', 'tarefas';
+
+-- Nomes de constraint sao unicos no schema: a CHECK de V1 so pode ser
+-- recriada com o mesmo nome depois que a tabela antiga foi removida
+ALTER TABLE tarefas ADD CONSTRAINT chk_status CHECK (status IN ('PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDA'));
+
+CREATE INDEX idx_tarefas_status ON tarefas(status);
+CREATE INDEX idx_tarefas_data_criacao ON tarefas(data_criacao, id);
@@ -0,0 +1,11 @@
+-- ===============================
+-- MIGRATION: Indice composto para listagem por status
+-- Descricao: Cria o indice (status, data_criacao DESC, id DESC), que atende
+--            "WHERE status = ? ORDER BY data_criacao DESC, id DESC" com uma
+--            leitura de faixa do indice, sem ordenacao. Substitui o indice
+--            simples de status, que passa a ser um prefixo redundante
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-09
+-- ===============================
+CREATE INDEX idx_tarefas_status_data_criacao ON tarefas(status, data_criacao DESC, id DESC);
+DROP INDEX idx_tarefas_status ON tarefas;
@@ -0,0 +1,17 @@
+-- ===============================
+-- MIGRATION: Chaves de idempotencia da criacao de tarefas
+-- Descricao: Registra cada Idempotency-Key recebida em POST /api/tarefas com
+--            a tarefa criada, gravada na mesma transacao da tarefa. Usada
+--            apenas com todolist.idempotencia.persistente=true, para que
+--            repeticoes sejam reconhecidas apos uma reinicializacao
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-09
+-- ===============================
+CREATE TABLE chaves_idempotencia (
+    chave VARCHAR(255) NOT NULL,
+    impressao VARCHAR(64) NOT NULL,
+    tarefa_id BIGINT NOT NULL,
+    data_criacao DATETIME2 NOT NULL,
+    CONSTRAINT pk_chaves_idempotencia PRIMARY KEY (chave)
+);
+CREATE INDEX idx_chaves_idempotencia_data_criacao ON chaves_idempotencia(data_criacao);
@@ -0,0 +1,11 @@
+-- ===============================
+-- MIGRATION: Resposta original das chaves de idempotencia
+-- Descricao: Guarda o status e o corpo da resposta da requisicao original,
+--            devolvidos nas repeticoes mesmo que a tarefa tenha sido
+--            alterada ou removida depois. Chaves anteriores ficam sem resposta.
+--            O corpo nao tem limite: caracteres de controle escapados (\u00XX)
+--            podem multiplicar por 6 o tamanho dos campos
+-- Autor: Stefanini Challenge
+-- Data: 2026-01-09
+-- ===============================
+ALTER TABLE chaves_idempotencia ADD status_resposta INT NULL, corpo_resposta NVARCHAR(MAX) NULL;
@@ -0,0 +1,86 @@
+package com.stefanini.todolist.application.mappers;
+
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
+import com.stefanini.todolist.domain.entities.Tarefa;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o mapper gerado de {@link TarefaMapper}.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+class TarefaMapperTest {
+
+    private final TarefaMapper tarefaMapper = Mappers.getMapper(TarefaMapper.class);
+
+    @Test
+    @DisplayName("Deve mapear entidade para DTO de resposta")
+    void deveMapearEntidadeParaResponse() {
+        LocalDateTime agora = LocalDateTime.now();
+        Tarefa tarefa = Tarefa.builder()
+                .id(1L)
+                .titulo("Teste")
+                .descricao("Descrição")
+                .status(StatusTarefa.EM_ANDAMENTO)
+                .dataCriacao(agora)
+                .dataAtualizacao(agora)
+                .build();
+
+        TarefaResponseDTO dto = tarefaMapper.toResponseDTO(tarefa);
+
+        assertEquals(1L, dto.getId());
+        assertEquals("Teste", dto.getTitulo());
+        assertEquals("Descrição", dto.getDescricao());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, dto.getStatus());
+        assertEquals(agora, dto.getDataCriacao());
+        assertEquals(agora, dto.getDataAtualizacao());
+    }
+
+    @Test
+    @DisplayName("Deve criar entidade sem ID a partir do DTO de criação")
+    void deveCriarEntidadeAPartirDoCreateDTO() {
+        TarefaCreateDTO createDTO = TarefaCreateDTO.builder()
+                .titulo("Nova")
+                .descricao("Descrição")
+                .status(StatusTarefa.PENDENTE)
+                .build();
+
+        Tarefa tarefa = tarefaMapper.toEntity(createDTO);
+
+        assertNull(tarefa.getId());
+        assertEquals("Nova", tarefa.getTitulo());
+        assertEquals(StatusTarefa.PENDENTE, tarefa.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve manter o status atual quando a atualização não informar status")
+    void deveManterStatusQuandoNaoInformado() {
+        Tarefa tarefa = Tarefa.builder()
+                .id(1L)
+                .titulo("Antigo")
+                .status(StatusTarefa.CONCLUIDA)
+                .build();
+        TarefaUpdateDTO updateDTO = TarefaUpdateDTO.builder()
+                .titulo("Novo")
+                .descricao("Nova descrição")
+                .build();
+
+        tarefaMapper.atualizar(updateDTO, tarefa);
+
+        assertEquals(1L, tarefa.getId());
+        assertEquals("Novo", tarefa.getTitulo());
+        assertEquals("Nova descrição", tarefa.getDescricao());
+        assertEquals(StatusTarefa.CONCLUIDA, tarefa.getStatus());
+    }
+}
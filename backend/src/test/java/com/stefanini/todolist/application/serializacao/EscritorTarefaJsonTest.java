@@ -0,0 +1,64 @@
+package com.stefanini.todolist.application.serializacao;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para as classes EscritorTarefaJson e TarefaResponseSerializer.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do EscritorTarefaJson")
+class EscritorTarefaJsonTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    /**
+     * Referência: serialização por introspecção, com as datas no formato {@link EscritorTarefaJson#PADRAO_DATA}.
+     */
+    private final ObjectMapper objectMapperIntrospeccao = Jackson2ObjectMapperBuilder.json()
+            .mixIn(TarefaResponseDTO.class, SemSerializadorDedicado.class)
+            .build();
+
+    @Test
+    @DisplayName("Deve gerar o mesmo JSON da serialização por introspecção")
+    void deveGerarMesmoJsonDaIntrospeccao() throws Exception {
+        List<TarefaResponseDTO> tarefas = List.of(
+                TarefaResponseDTO.builder()
+                        .id(1L)
+                        .titulo("Estudar \"Jackson\"")
+                        .descricao("Linha 1\nLinha 2")
+                        .status(StatusTarefa.EM_ANDAMENTO)
+                        .dataCriacao(LocalDateTime.of(2026, 1, 9, 8, 5, 3, 123_456_789))
+                        .dataAtualizacao(LocalDateTime.of(987, 12, 31, 23, 59, 59))
+                        .versao(3L)
+                        .build(),
+                TarefaResponseDTO.builder().id(2L).titulo("Sem datas").build());
+
+        assertEquals(objectMapperIntrospeccao.writeValueAsString(tarefas), objectMapper.writeValueAsString(tarefas));
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class SemSerializadorDedicado {
+
+        @JsonFormat(pattern = EscritorTarefaJson.PADRAO_DATA)
+        private LocalDateTime dataCriacao;
+
+        @JsonFormat(pattern = EscritorTarefaJson.PADRAO_DATA)
+        private LocalDateTime dataAtualizacao;
+    }
+}
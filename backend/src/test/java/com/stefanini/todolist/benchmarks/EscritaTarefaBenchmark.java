@@ -0,0 +1,148 @@
+package com.stefanini.todolist.benchmarks;
+
+import com.stefanini.todolist.TodoListApplication;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.infrastructure.config.CacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da atualização e da remoção de tarefas contra o H2 em memória.
+ *
+ * <p>Além da latência, reporta as instruções SQL executadas (contadores
+ * {@code instrucoes} e {@code operacoes}; a razão entre eles é a quantidade de
+ * instruções por operação), obtidas das estatísticas do Hibernate:</p>
+ * <ul>
+ *   <li>{@code atualizarEmCache} - caminho direto: um único UPDATE condicionado à versão</li>
+ *   <li>{@code atualizarSemCache} - caminho com leitura: SELECT seguido de UPDATE</li>
+ *   <li>{@code deletar} - um único DELETE (antes: SELECT seguido de DELETE)</li>
+ * </ul>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.filtro=EscritaTarefaBenchmark</pre>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EscritaTarefaBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private Statistics estatisticas;
+    private Cache cache;
+    private long idAtualizacao;
+    private long idRemocao;
+    private int contador;
+
+    /**
+     * Instruções SQL executadas pelas operações medidas.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Instrucoes {
+
+        public long instrucoes;
+        public long operacoes;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            instrucoes = 0;
+            operacoes = 0;
+        }
+
+        void registrar(long quantidade) {
+            instrucoes += quantidade;
+            operacoes++;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(TodoListApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-escrita;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.com.stefanini.todolist=WARN")
+                .run();
+        tarefaService = contexto.getBean(TarefaService.class);
+        estatisticas = contexto.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        cache = contexto.getBean(CacheManager.class).getCache(CacheConfig.CACHE_TAREFAS);
+
+        idAtualizacao = tarefaService.criar(TarefaCreateDTO.builder()
+                .titulo("Tarefa de benchmark")
+                .status(StatusTarefa.PENDENTE)
+                .build()).getId();
+    }
+
+    @Setup(Level.Invocation)
+    public void criarTarefaParaRemover() {
+        idRemocao = tarefaService.criar(TarefaCreateDTO.builder()
+                .titulo("Tarefa a remover")
+                .status(StatusTarefa.PENDENTE)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public TarefaResponseDTO atualizarEmCache(Instrucoes instrucoes) {
+        // A primeira chamada preenche o cache (@CachePut); as seguintes usam o caminho direto
+        long antes = estatisticas.getPrepareStatementCount();
+        TarefaResponseDTO tarefa = tarefaService.atualizar(idAtualizacao, proximaAtualizacao());
+        instrucoes.registrar(estatisticas.getPrepareStatementCount() - antes);
+        return tarefa;
+    }
+
+    @Benchmark
+    public TarefaResponseDTO atualizarSemCache(Instrucoes instrucoes) {
+        cache.evict(idAtualizacao);
+        long antes = estatisticas.getPrepareStatementCount();
+        TarefaResponseDTO tarefa = tarefaService.atualizar(idAtualizacao, proximaAtualizacao());
+        instrucoes.registrar(estatisticas.getPrepareStatementCount() - antes);
+        return tarefa;
+    }
+
+    @Benchmark
+    public void deletar(Instrucoes instrucoes) {
+        long antes = estatisticas.getPrepareStatementCount();
+        tarefaService.deletar(idRemocao);
+        instrucoes.registrar(estatisticas.getPrepareStatementCount() - antes);
+    }
+
+    private TarefaUpdateDTO proximaAtualizacao() {
+        StatusTarefa[] status = StatusTarefa.values();
+        int indice = contador++;
+        return TarefaUpdateDTO.builder()
+                .titulo("Tarefa de benchmark " + indice)
+                .descricao("Atualização número " + indice)
+                .status(status[indice % status.length])
+                .build();
+    }
+}
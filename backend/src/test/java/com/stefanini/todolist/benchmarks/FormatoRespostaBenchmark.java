@@ -0,0 +1,116 @@
+package com.stefanini.todolist.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefasColunaresDTO;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmark JMH dos formatos de resposta de {@code GET /api/tarefas}: bytes enviados e custo de serialização.
+ *
+ * <p>Compara o JSON atual (uma lista de objetos) com a representação colunar,
+ * CBOR e Smile, com e sem gzip. O tamanho de cada resposta, em bytes, é
+ * impresso no início de cada combinação ({@code bytes=...}); o custo de CPU é
+ * a vazão reportada e a alocação por operação é obtida com {@code -prof gc}.</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.filtro=FormatoRespostaBenchmark</pre>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatoRespostaBenchmark {
+
+    /**
+     * Quantidade de tarefas na lista serializada.
+     */
+    @Param({"10000"})
+    public int quantidade;
+
+    /**
+     * Formato da resposta.
+     */
+    @Param({"json", "colunar", "cbor", "smile"})
+    public String formato;
+
+    /**
+     * Se a resposta é comprimida com gzip, como faz o Tomcat acima de {@code server.compression.min-response-size}.
+     */
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private ObjectWriter writer;
+    private Object resposta;
+    private ByteArrayOutputStream saida;
+
+    @Setup
+    public void setUp() throws IOException {
+        StatusTarefa[] status = StatusTarefa.values();
+        LocalDateTime agora = LocalDateTime.now();
+        List<TarefaResponseDTO> tarefas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            tarefas.add(TarefaResponseDTO.builder()
+                    .id((long) i)
+                    .titulo("Tarefa de benchmark " + i)
+                    .descricao("Descrição da tarefa de benchmark número " + i)
+                    .status(status[i % status.length])
+                    .dataCriacao(agora.minusMinutes(i))
+                    .dataAtualizacao(agora)
+                    .versao(0L)
+                    .build());
+        }
+
+        ObjectMapper objectMapper = switch (formato) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        if ("colunar".equals(formato)) {
+            resposta = TarefasColunaresDTO.de(tarefas);
+            writer = objectMapper.writerFor(TarefasColunaresDTO.class);
+        } else {
+            resposta = tarefas;
+            writer = objectMapper.writerFor(TypeFactory.defaultInstance()
+                    .constructCollectionType(List.class, TarefaResponseDTO.class));
+        }
+
+        saida = new ByteArrayOutputStream(1 << 20);
+        System.out.printf("%n%s gzip=%s quantidade=%d bytes=%d%n", formato, gzip, quantidade, serializar());
+    }
+
+    @Benchmark
+    public int serializarResposta() throws IOException {
+        return serializar();
+    }
+
+    private int serializar() throws IOException {
+        saida.reset();
+        if (gzip) {
+            try (OutputStream comprimida = new GZIPOutputStream(saida, 8192)) {
+                writer.writeValue(comprimida, resposta);
+            }
+        } else {
+            writer.writeValue(saida, resposta);
+        }
+        return saida.size();
+    }
+}
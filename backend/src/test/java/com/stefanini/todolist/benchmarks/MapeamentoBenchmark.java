@@ -0,0 +1,68 @@
+package com.stefanini.todolist.benchmarks;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.mappers.TarefaMapper;
+import com.stefanini.todolist.domain.entities.Tarefa;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH comparando o mapeamento entidade → DTO via ModelMapper (reflexão)
+ * e via MapStruct (código gerado em tempo de compilação).
+ *
+ * <p>O ModelMapper é configurado exatamente como o antigo {@code ModelMapperConfig}.
+ * Execute com o profile {@code benchmark} para obter também a taxa de alocação
+ * ({@code -prof gc}):</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.filtro=MapeamentoBenchmark</pre>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+    private ModelMapper modelMapper;
+    private TarefaMapper tarefaMapper;
+    private Tarefa tarefa;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setSkipNullEnabled(true)
+                .setAmbiguityIgnored(true);
+
+        tarefaMapper = Mappers.getMapper(TarefaMapper.class);
+
+        tarefa = Tarefa.builder()
+                .id(42L)
+                .titulo("Implementar API REST")
+                .descricao("Desenvolver endpoints CRUD seguindo padrões RESTful")
+                .status(StatusTarefa.EM_ANDAMENTO)
+                .dataCriacao(LocalDateTime.now())
+                .dataAtualizacao(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public TarefaResponseDTO modelMapper() {
+        return modelMapper.map(tarefa, TarefaResponseDTO.class);
+    }
+
+    @Benchmark
+    public TarefaResponseDTO mapStruct() {
+        return tarefaMapper.toResponseDTO(tarefa);
+    }
+}
@@ -0,0 +1,125 @@
+package com.stefanini.todolist.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do custo de logging por requisição.
+ *
+ * <p>Compara o padrão anterior, em que controller e service emitiam três linhas
+ * {@code INFO} por requisição diretamente em um appender síncrono, com o atual:
+ * um único registro de acesso enfileirado em um {@link AsyncAppender}, com a
+ * mesma configuração do {@code logback-spring.xml}. Ambos escrevem em arquivo,
+ * com o mesmo padrão de linha do Spring Boot.</p>
+ *
+ * <p>Execute com várias threads para reproduzir a contenção no appender síncrono:</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.filtro=RegistroLogBenchmark</pre>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RegistroLogBenchmark {
+
+    private static final String PADRAO = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    private LoggerContext contexto;
+    private Logger controller;
+    private Logger service;
+    private Logger acesso;
+    private File arquivoSincrono;
+    private File arquivoAssincrono;
+
+    @Setup
+    public void setUp() throws IOException {
+        contexto = new LoggerContext();
+        arquivoSincrono = Files.createTempFile("log-sincrono", ".log").toFile();
+        arquivoAssincrono = Files.createTempFile("log-assincrono", ".log").toFile();
+
+        Appender<ILoggingEvent> sincrono = arquivo("SINCRONO", arquivoSincrono);
+
+        AsyncAppender assincrono = new AsyncAppender();
+        assincrono.setContext(contexto);
+        assincrono.setName("ASYNC");
+        assincrono.setQueueSize(8192);
+        assincrono.setDiscardingThreshold(0);
+        assincrono.setNeverBlock(true);
+        assincrono.addAppender(arquivo("ARQUIVO", arquivoAssincrono));
+        assincrono.start();
+
+        controller = logger("com.stefanini.todolist.infrastructure.controllers.TarefaController", sincrono);
+        service = logger("com.stefanini.todolist.application.services.TarefaServiceImpl", sincrono);
+        acesso = logger("todolist.acesso", assincrono);
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.stop();
+        arquivoSincrono.delete();
+        arquivoAssincrono.delete();
+    }
+
+    /**
+     * Três linhas {@code INFO} síncronas por requisição (padrão anterior).
+     */
+    @Benchmark
+    public void logsPorEtapaSincronos() {
+        controller.info("Requisição recebida para listar todas as tarefas");
+        service.info("Listando todas as tarefas");
+        service.info("Total de tarefas encontradas: {}", 100);
+    }
+
+    /**
+     * Um registro de acesso assíncrono por requisição, com os logs por etapa em {@code DEBUG}.
+     */
+    @Benchmark
+    public void registroAcessoAssincrono() {
+        if (service.isDebugEnabled()) {
+            service.debug("Total de tarefas encontradas: {}", 100);
+        }
+        acesso.info("{} {} {} {}ms linhas={}", "GET", "/api/tarefas", 200, 3L, 100);
+    }
+
+    private Appender<ILoggingEvent> arquivo(String nome, File arquivo) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern(PADRAO);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(contexto);
+        appender.setName(nome);
+        appender.setFile(arquivo.getAbsolutePath());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(String nome, Appender<ILoggingEvent> appender) {
+        Logger logger = contexto.getLogger(nome);
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
@@ -0,0 +1,140 @@
+package com.stefanini.todolist.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.mappers.TarefaMapper;
+import com.stefanini.todolist.application.serializacao.EscritorTarefaJson;
+import com.stefanini.todolist.domain.entities.Tarefa;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.openjdk.jmh.annotations.*;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da serialização Jackson de listas de {@link TarefaResponseDTO}.
+ *
+ * <p>O {@link ObjectMapper} é criado pelo {@link Jackson2ObjectMapperBuilder},
+ * com a mesma configuração padrão usada pelo Spring MVC. O parâmetro
+ * {@code serializador} compara o serializador dedicado ({@code TarefaResponseSerializer})
+ * com a serialização por introspecção e {@code @JsonFormat}. O benchmark
+ * {@code exportarNdjson} compara as mesmas estratégias na exportação NDJSON,
+ * uma tarefa por valor raiz. A alocação por operação
+ * ({@code gc.alloc.rate.norm}) é reportada pelo {@code -prof gc} do profile {@code benchmark}.</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.filtro=SerializacaoBenchmark</pre>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    /**
+     * Quantidade de tarefas na lista serializada.
+     */
+    @Param({"100", "10000"})
+    public int quantidade;
+
+    /**
+     * Serialização de {@link TarefaResponseDTO}: {@code dedicado} ou {@code introspeccao}.
+     */
+    @Param({"dedicado", "introspeccao"})
+    public String serializador;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private ObjectWriter writerTarefa;
+    private TarefaMapper tarefaMapper;
+    private List<TarefaResponseDTO> tarefas;
+    private ByteArrayOutputStream saida;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("introspeccao".equals(serializador)) {
+            builder.mixIn(TarefaResponseDTO.class, SemSerializadorDedicado.class);
+        }
+        objectMapper = builder.build();
+        writer = objectMapper.writerFor(TypeFactory.defaultInstance()
+                .constructCollectionType(List.class, TarefaResponseDTO.class));
+        writerTarefa = objectMapper.writerFor(TarefaResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        tarefaMapper = Mappers.getMapper(TarefaMapper.class);
+        saida = new ByteArrayOutputStream(1 << 20);
+
+        StatusTarefa[] status = StatusTarefa.values();
+        LocalDateTime agora = LocalDateTime.now();
+        tarefas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Tarefa entidade = Tarefa.builder()
+                    .id((long) i)
+                    .titulo("Tarefa de benchmark " + i)
+                    .descricao("Descrição da tarefa de benchmark número " + i)
+                    .status(status[i % status.length])
+                    .dataCriacao(agora.minusMinutes(i))
+                    .dataAtualizacao(agora)
+                    .versao(0L)
+                    .build();
+            tarefas.add(tarefaMapper.toResponseDTO(entidade));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tarefas);
+    }
+
+    /**
+     * Exportação NDJSON: {@code dedicado} escreve cada DTO com o {@link EscritorTarefaJson};
+     * {@code introspeccao} serializa cada DTO com um {@link ObjectWriter}.
+     */
+    @Benchmark
+    public int exportarNdjson() throws IOException {
+        saida.reset();
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.setRootValueSeparator(null);
+            EscritorTarefaJson escritor = new EscritorTarefaJson();
+            boolean dedicado = "dedicado".equals(serializador);
+            for (TarefaResponseDTO tarefa : tarefas) {
+                if (dedicado) {
+                    escritor.escrever(gerador, tarefa);
+                } else {
+                    writerTarefa.writeValue(gerador, tarefa);
+                }
+                gerador.writeRaw('\n');
+            }
+        }
+        return saida.size();
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class SemSerializadorDedicado {
+
+        @JsonFormat(pattern = EscritorTarefaJson.PADRAO_DATA)
+        private LocalDateTime dataCriacao;
+
+        @JsonFormat(pattern = EscritorTarefaJson.PADRAO_DATA)
+        private LocalDateTime dataAtualizacao;
+    }
+}
@@ -0,0 +1,117 @@
+package com.stefanini.todolist.benchmarks;
+
+import com.stefanini.todolist.TodoListApplication;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaResumoDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH das operações do {@link TarefaService} contra o H2 em memória.
+ *
+ * <p>Inicializa o contexto Spring sem servidor web, popula a tabela com
+ * {@link #quantidade} tarefas e mede as operações de leitura e criação
+ * de ponta a ponta (transação, JPA e mapeamento).</p>
+ *
+ * <pre>mvn -Pbenchmark test-compile exec:exec -Djmh.filtro=TarefaServiceBenchmark</pre>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TarefaServiceBenchmark {
+
+    /**
+     * Quantidade de tarefas cadastradas antes da medição.
+     */
+    @Param({"1000", "10000"})
+    public int quantidade;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private long menorId;
+    private long maiorId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contexto = new SpringApplicationBuilder(TodoListApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + quantidade + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.com.stefanini.todolist=WARN")
+                .run();
+        tarefaService = contexto.getBean(TarefaService.class);
+
+        StatusTarefa[] status = StatusTarefa.values();
+        menorId = Long.MAX_VALUE;
+        for (int i = 0; i < quantidade; i++) {
+            TarefaResponseDTO criada = tarefaService.criar(novaTarefa(i, status[i % status.length]));
+            menorId = Math.min(menorId, criada.getId());
+            maiorId = Math.max(maiorId, criada.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> listarTodas() {
+        return tarefaService.listarTodas();
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> listarPorStatus() {
+        return tarefaService.listarPorStatus(StatusTarefa.EM_ANDAMENTO);
+    }
+
+    @Benchmark
+    public List<TarefaResumoDTO> listarResumo() {
+        return tarefaService.listarResumo();
+    }
+
+    @Benchmark
+    public List<TarefaResumoDTO> listarResumoPorStatus() {
+        return tarefaService.listarResumoPorStatus(StatusTarefa.EM_ANDAMENTO);
+    }
+
+    @Benchmark
+    public TarefaResponseDTO buscarPorId() {
+        return tarefaService.buscarPorId(ThreadLocalRandom.current().nextLong(menorId, maiorId + 1));
+    }
+
+    /**
+     * Mede a criação de tarefas. A tabela cresce durante a medição, o que é
+     * desprezível frente à {@link #quantidade} inicial.
+     */
+    @Benchmark
+    public TarefaResponseDTO criar() {
+        return tarefaService.criar(novaTarefa(0, StatusTarefa.PENDENTE));
+    }
+
+    private static TarefaCreateDTO novaTarefa(int indice, StatusTarefa status) {
+        return TarefaCreateDTO.builder()
+                .titulo("Tarefa de benchmark " + indice)
+                .descricao("Descrição da tarefa de benchmark número " + indice)
+                .status(status)
+                .build();
+    }
+}
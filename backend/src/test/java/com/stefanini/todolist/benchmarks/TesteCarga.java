@@ -0,0 +1,151 @@
+package com.stefanini.todolist.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Teste de carga HTTP em malha fechada contra uma instância em execução da API.
+ *
+ * <p>Cada cliente simulado (uma thread virtual) envia requisições em sequência
+ * até o fim da medição. Ao final são reportados vazão, latências p50/p99/máx
+ * e erros. Requisições feitas durante o aquecimento são descartadas.</p>
+ *
+ * <p>Usado para comparar o modelo padrão (pool de threads do Tomcat) com o
+ * profile {@code virtual}: suba a aplicação em cada modo e execute:</p>
+ *
+ * <pre>
+ * mvn test-compile
+ * java -Dcarga.clientes=5000 -cp target/test-classes com.stefanini.todolist.benchmarks.TesteCarga
+ * </pre>
+ *
+ * <p>Como todos os clientes partem do mesmo endereço, mantenha
+ * {@code todolist.limites.habilitado=false} (padrão); caso contrário a maior parte
+ * das requisições é recusada pelo limite de requisições (429).</p>
+ *
+ * <p>Propriedades: {@code carga.url} (padrão {@code http://localhost:8080/api/tarefas/pagina?limite=20}),
+ * {@code carga.clientes} (5000), {@code carga.aquecimento-s} (15) e {@code carga.duracao-s} (60).</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+public final class TesteCarga {
+
+    private TesteCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI url = URI.create(System.getProperty("carga.url", "http://localhost:8080/api/tarefas/pagina?limite=20"));
+        int clientes = Integer.getInteger("carga.clientes", 5000);
+        long aquecimentoNs = Duration.ofSeconds(Integer.getInteger("carga.aquecimento-s", 15)).toNanos();
+        long duracaoNs = Duration.ofSeconds(Integer.getInteger("carga.duracao-s", 60)).toNanos();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest requisicao = HttpRequest.newBuilder(url)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        System.out.printf("Carga: %d clientes em %s (aquecimento %ds, medição %ds)%n",
+                clientes, url, aquecimentoNs / 1_000_000_000, duracaoNs / 1_000_000_000);
+
+        long inicioMedicao = System.nanoTime() + aquecimentoNs;
+        long fimMedicao = inicioMedicao + duracaoNs;
+
+        List<Future<Medicoes>> resultados = new ArrayList<>(clientes);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientes; i++) {
+                resultados.add(executor.submit(() -> executarCliente(httpClient, requisicao, inicioMedicao, fimMedicao)));
+            }
+        }
+
+        Medicoes total = new Medicoes();
+        for (Future<Medicoes> resultado : resultados) {
+            total.combinar(resultado.get());
+        }
+        total.imprimir(duracaoNs);
+    }
+
+    /**
+     * Envia requisições em sequência até o fim da medição.
+     */
+    private static Medicoes executarCliente(HttpClient httpClient, HttpRequest requisicao,
+                                            long inicioMedicao, long fimMedicao) {
+        Medicoes medicoes = new Medicoes();
+        long agora;
+        while ((agora = System.nanoTime()) < fimMedicao) {
+            boolean sucesso;
+            try {
+                HttpResponse<Void> resposta = httpClient.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                sucesso = resposta.statusCode() < 400;
+            } catch (Exception ex) {
+                sucesso = false;
+            }
+            if (agora >= inicioMedicao) {
+                medicoes.registrar(System.nanoTime() - agora, sucesso);
+            }
+        }
+        return medicoes;
+    }
+
+    /**
+     * Latências (ns) e erros registrados por um ou mais clientes.
+     */
+    private static final class Medicoes {
+
+        private long[] latencias = new long[256];
+        private int quantidade;
+        private long erros;
+
+        void registrar(long latenciaNs, boolean sucesso) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = latenciaNs;
+            if (!sucesso) {
+                erros++;
+            }
+        }
+
+        void combinar(Medicoes outras) {
+            if (quantidade + outras.quantidade > latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade + outras.quantidade);
+            }
+            System.arraycopy(outras.latencias, 0, latencias, quantidade, outras.quantidade);
+            quantidade += outras.quantidade;
+            erros += outras.erros;
+        }
+
+        void imprimir(long duracaoNs) {
+            if (quantidade == 0) {
+                System.out.println("Nenhuma requisição concluída durante a medição");
+                return;
+            }
+            long[] ordenadas = Arrays.copyOf(latencias, quantidade);
+            Arrays.sort(ordenadas);
+
+            System.out.printf("Requisições: %d (erros: %d)%n", quantidade, erros);
+            System.out.printf("Vazão: %.1f req/s%n", quantidade / (duracaoNs / 1e9));
+            System.out.printf("Latência p50: %.1f ms | p99: %.1f ms | máx: %.1f ms%n",
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.99), ordenadas[quantidade - 1] / 1e6);
+        }
+
+        private static double percentil(long[] ordenadas, double percentil) {
+            int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+            return ordenadas[Math.max(indice, 0)] / 1e6;
+        }
+    }
+}
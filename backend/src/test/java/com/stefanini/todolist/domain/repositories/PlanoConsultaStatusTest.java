@@ -0,0 +1,91 @@
+package com.stefanini.todolist.domain.repositories;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, pelo plano de execução do H2, que as consultas por status
+ * são atendidas pelo índice {@code idx_tarefas_status_data_criacao}.
+ *
+ * <p>O esquema é criado pelas próprias migrations do Flyway. As consultas
+ * reproduzem o SQL gerado pelo Hibernate para
+ * {@link TarefaRepository#findByStatusOrderByDataCriacaoDescIdDesc} e
+ * {@link TarefaRepository#findResumoByStatus}.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do plano de consulta por status")
+class PlanoConsultaStatusTest {
+
+    private static final String URL = "jdbc:h2:mem:plano-consulta;DB_CLOSE_DELAY=-1";
+    private static final String INDICE = "IDX_TAREFAS_STATUS_DATA_CRIACAO";
+
+    private static Connection conexao;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        conexao = DriverManager.getConnection(URL, "sa", "");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        conexao.close();
+    }
+
+    @Test
+    @DisplayName("Deve listar tarefas por status com leitura de faixa do índice, sem ordenação")
+    void deveUsarIndiceNaListagemPorStatus() throws SQLException {
+        String plano = explicar("SELECT id, titulo, descricao, data_criacao, data_atualizacao, status, versao "
+                + "FROM tarefas WHERE status = 'PENDENTE' ORDER BY data_criacao DESC, id DESC");
+
+        assertTrue(plano.contains(INDICE + ": STATUS = 'PENDENTE'"), plano);
+        assertTrue(plano.contains("/* index sorted */"), plano);
+    }
+
+    @Test
+    @DisplayName("Deve listar o resumo por status com leitura de faixa do índice, sem ordenação")
+    void deveUsarIndiceNoResumoPorStatus() throws SQLException {
+        String plano = explicar("SELECT id, titulo, status, data_criacao, data_atualizacao, versao "
+                + "FROM tarefas WHERE status = 'CONCLUIDA' ORDER BY data_criacao DESC, id DESC");
+
+        assertTrue(plano.contains(INDICE + ": STATUS = 'CONCLUIDA'"), plano);
+        assertTrue(plano.contains("/* index sorted */"), plano);
+    }
+
+    @Test
+    @DisplayName("Deve remover o índice simples de status, coberto pelo índice composto")
+    void deveRemoverIndiceSimplesDeStatus() throws SQLException {
+        try (Statement statement = conexao.createStatement();
+             ResultSet resultado = statement.executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                     + "WHERE TABLE_NAME = 'TAREFAS' AND INDEX_NAME = 'IDX_TAREFAS_STATUS'")) {
+            resultado.next();
+            assertEquals(0, resultado.getInt(1));
+        }
+    }
+
+    private static String explicar(String sql) throws SQLException {
+        try (Statement statement = conexao.createStatement();
+             ResultSet resultado = statement.executeQuery("EXPLAIN " + sql)) {
+            resultado.next();
+            return resultado.getString(1);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.stefanini.todolist.domain.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que a coluna {@code corpo_resposta} de {@code chaves_idempotencia}
+ * comporta a resposta de qualquer tarefa válida.
+ *
+ * <p>O esquema é criado pelas próprias migrations do Flyway.</p>
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes da resposta gravada com a chave de idempotência")
+class RespostaChaveIdempotenciaTest {
+
+    private static final String URL = "jdbc:h2:mem:resposta-chave;DB_CLOSE_DELAY=-1";
+
+    private static Connection conexao;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        conexao = DriverManager.getConnection(URL, "sa", "");
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        conexao.close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o corpo de uma tarefa com título e descrição máximos de caracteres escapados")
+    void deveGravarCorpoMaximoEscapado() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime agora = LocalDateTime.of(2026, 1, 9, 10, 30);
+        String corpo = objectMapper.writeValueAsString(TarefaResponseDTO.builder()
+                .id(Long.MAX_VALUE)
+                .titulo("\u0001".repeat(100))
+                .descricao("\u0001".repeat(500))
+                .status(StatusTarefa.EM_ANDAMENTO)
+                .dataCriacao(agora)
+                .dataAtualizacao(agora)
+                .versao(Long.MAX_VALUE)
+                .build());
+        assertTrue(corpo.length() > 3600, "corpo com " + corpo.length() + " caracteres");
+
+        try (PreparedStatement insert = conexao.prepareStatement("INSERT INTO chaves_idempotencia "
+                + "(chave, impressao, tarefa_id, data_criacao, status_resposta, corpo_resposta) "
+                + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            insert.setString(1, "chave-maxima");
+            insert.setString(2, "0".repeat(64));
+            insert.setLong(3, Long.MAX_VALUE);
+            insert.setTimestamp(4, Timestamp.valueOf(agora));
+            insert.setInt(5, 201);
+            insert.setString(6, corpo);
+            assertEquals(1, insert.executeUpdate());
+        }
+
+        try (PreparedStatement select = conexao.prepareStatement(
+                "SELECT corpo_resposta FROM chaves_idempotencia WHERE chave = ?")) {
+            select.setString(1, "chave-maxima");
+            try (ResultSet resultado = select.executeQuery()) {
+                assertTrue(resultado.next());
+                assertEquals(corpo, resultado.getString(1));
+            }
+        }
+        assertEquals("\u0001".repeat(500), objectMapper.readValue(corpo, TarefaResponseDTO.class).getDescricao());
+    }
+}
@@ -0,0 +1,60 @@
+package com.stefanini.todolist.infrastructure.config;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe CacheTarefasVersionado.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do CacheTarefasVersionado")
+class CacheTarefasVersionadoTest {
+
+    private final Cache cache = new CacheConfig().cacheManager(100, Duration.ZERO)
+            .getCache(CacheConfig.CACHE_TAREFAS);
+
+    @Test
+    @DisplayName("Não deve sobrescrever a versão gravada por uma atualização concorrente com a leitura adiada")
+    void deveManterVersaoMaisRecenteComLeituraAdiada() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Leitura da versão 0: a inclusão só ocorre após o commit da transação
+            cache.put(1L, tarefa(0));
+
+            // Atualização concorrente confirmada em outra thread grava a versão 1
+            CompletableFuture.runAsync(() -> cache.put(1L, tarefa(1))).join();
+            assertEquals(1L, cache.get(1L, TarefaResponseDTO.class).getVersao());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1L, cache.get(1L, TarefaResponseDTO.class).getVersao());
+    }
+
+    @Test
+    @DisplayName("Deve substituir a tarefa por uma versão mais recente")
+    void deveSubstituirPorVersaoMaisRecente() {
+        cache.put(1L, tarefa(1));
+        cache.put(1L, tarefa(2));
+
+        assertEquals(2L, cache.get(1L, TarefaResponseDTO.class).getVersao());
+    }
+
+    private static TarefaResponseDTO tarefa(long versao) {
+        return TarefaResponseDTO.builder().id(1L).titulo("Tarefa v" + versao).versao(versao).build();
+    }
+}
@@ -76,5 +76,24 @@ class CustomExceptionsTest {
         assertEquals(message, exception.getMessage());
         assertEquals(cause, exception.getCause());
     }
-}
 
+    @Test
+    @DisplayName("Deve criar VersionConflictException com mensagem")
+    void testVersionConflictException() {
+        String message = "Versão desatualizada";
+        VersionConflictException exception = new VersionConflictException(message);
+
+        assertEquals(message, exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Deve criar RateLimitExceededException com mensagem e tempo de espera")
+    void testRateLimitExceededException() {
+        String message = "Limite de requisições excedido";
+        RateLimitExceededException exception = new RateLimitExceededException(message, 3);
+
+        assertEquals(message, exception.getMessage());
+        assertEquals(3, exception.getRetryAfterSegundos());
+    }
+}
@@ -0,0 +1,180 @@
+package com.stefanini.todolist.infrastructure.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.domain.entities.ChaveIdempotencia;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.domain.repositories.ChaveIdempotenciaRepository;
+import com.stefanini.todolist.infrastructure.exceptions.BusinessRuleException;
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe RegistroIdempotencia.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do RegistroIdempotencia")
+class RegistroIdempotenciaTest {
+
+    private final TarefaService tarefaService = mock(TarefaService.class);
+    private final ChaveIdempotenciaRepository chaveRepository = mock(ChaveIdempotenciaRepository.class);
+    private final TransactionTemplate transacao = mock(TransactionTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("Deve devolver a tarefa original ao repetir a chave, sem criar outra")
+    void deveRepetirTarefaComMesmaChave() {
+        RegistroIdempotencia registro = criarRegistro(false);
+        TarefaResponseDTO criada = TarefaResponseDTO.builder().id(1L).titulo("Estudar").build();
+        when(tarefaService.criar(any(TarefaCreateDTO.class))).thenReturn(criada);
+
+        RegistroIdempotencia.Resultado primeira = registro.criar("chave-1", tarefa("Estudar"));
+        RegistroIdempotencia.Resultado repetida = registro.criar("chave-1", tarefa("Estudar"));
+
+        assertFalse(primeira.repetida());
+        assertTrue(repetida.repetida());
+        assertSame(criada, repetida.tarefa());
+        verify(tarefaService, times(1)).criar(any(TarefaCreateDTO.class));
+        verifyNoInteractions(chaveRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mesma chave com outro corpo")
+    void deveRecusarChaveComOutroCorpo() {
+        RegistroIdempotencia registro = criarRegistro(false);
+        when(tarefaService.criar(any(TarefaCreateDTO.class)))
+                .thenReturn(TarefaResponseDTO.builder().id(1L).build());
+
+        registro.criar("chave-1", tarefa("Estudar"));
+
+        assertThrows(BusinessRuleException.class, () -> registro.criar("chave-1", tarefa("Trabalhar")));
+        verify(tarefaService, times(1)).criar(any(TarefaCreateDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar corpo diferente com o mesmo hash de String (\"Aa\" e \"BB\")")
+    void deveRecusarCorpoComHashDeStringIgual() {
+        RegistroIdempotencia registro = criarRegistro(false);
+        when(tarefaService.criar(any(TarefaCreateDTO.class)))
+                .thenReturn(TarefaResponseDTO.builder().id(1L).build());
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        registro.criar("chave-1", tarefa("Aa"));
+
+        assertThrows(BusinessRuleException.class, () -> registro.criar("chave-1", tarefa("BB")));
+        assertNotEquals(RegistroIdempotencia.impressao(tarefa("Aa")), RegistroIdempotencia.impressao(tarefa("BB")));
+    }
+
+    @Test
+    @DisplayName("Deve distinguir campos deslocados entre título e descrição")
+    void deveDistinguirCamposDeslocados() {
+        TarefaCreateDTO primeira = TarefaCreateDTO.builder().titulo("ab").descricao("c").build();
+        TarefaCreateDTO segunda = TarefaCreateDTO.builder().titulo("a").descricao("bc").build();
+
+        assertNotEquals(RegistroIdempotencia.impressao(primeira), RegistroIdempotencia.impressao(segunda));
+        assertEquals(64, RegistroIdempotencia.impressao(primeira).length());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave quando a criação falhar")
+    void deveLiberarChaveAposFalha() {
+        RegistroIdempotencia registro = criarRegistro(false);
+        when(tarefaService.criar(any(TarefaCreateDTO.class)))
+                .thenThrow(new IllegalStateException("Banco indisponível"))
+                .thenReturn(TarefaResponseDTO.builder().id(2L).build());
+
+        assertThrows(IllegalStateException.class, () -> registro.criar("chave-1", tarefa("Estudar")));
+        RegistroIdempotencia.Resultado novaTentativa = registro.criar("chave-1", tarefa("Estudar"));
+
+        assertFalse(novaTentativa.repetida());
+        assertEquals(2L, novaTentativa.tarefa().getId());
+    }
+
+    @Test
+    @DisplayName("Deve recusar chave vazia ou muito longa")
+    void deveRecusarChaveInvalida() {
+        RegistroIdempotencia registro = criarRegistro(false);
+
+        assertThrows(InvalidDataException.class, () -> registro.criar(" ", tarefa("Estudar")));
+        assertThrows(InvalidDataException.class,
+                () -> registro.criar("x".repeat(RegistroIdempotencia.TAMANHO_MAXIMO_CHAVE + 1), tarefa("Estudar")));
+        verifyNoInteractions(tarefaService);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta original gravada no banco (após reinicialização)")
+    void deveReconhecerChavePersistida() throws Exception {
+        RegistroIdempotencia registro = criarRegistro(true);
+        TarefaCreateDTO createDTO = tarefa("Estudar");
+        TarefaResponseDTO original = TarefaResponseDTO.builder()
+                .id(7L)
+                .titulo("Estudar")
+                .status(StatusTarefa.PENDENTE)
+                .dataCriacao(LocalDateTime.of(2026, 1, 9, 10, 30))
+                .versao(0L)
+                .build();
+        when(chaveRepository.findById("chave-1")).thenReturn(Optional.of(ChaveIdempotencia.builder()
+                .chave("chave-1")
+                .impressao(RegistroIdempotencia.impressao(createDTO))
+                .tarefaId(7L)
+                .statusResposta(201)
+                .corpoResposta(objectMapper.writeValueAsString(original))
+                .build()));
+
+        RegistroIdempotencia.Resultado resultado = registro.criar("chave-1", createDTO);
+
+        assertTrue(resultado.repetida());
+        assertEquals(201, resultado.status());
+        assertEquals(7L, resultado.tarefa().getId());
+        assertEquals("Estudar", resultado.tarefa().getTitulo());
+        assertEquals(original.getDataCriacao(), resultado.tarefa().getDataCriacao());
+        assertEquals(0L, resultado.tarefa().getVersao());
+        // A tarefa pode ter sido alterada ou removida depois: a repetição não a lê novamente
+        verify(tarefaService, never()).buscarPorId(any());
+        verify(tarefaService, never()).criar(any(TarefaCreateDTO.class));
+        verifyNoInteractions(transacao);
+    }
+
+    @Test
+    @DisplayName("Deve ler a tarefa novamente para chave gravada sem a resposta original")
+    void deveLerTarefaParaChaveSemResposta() {
+        RegistroIdempotencia registro = criarRegistro(true);
+        TarefaCreateDTO createDTO = tarefa("Estudar");
+        TarefaResponseDTO original = TarefaResponseDTO.builder().id(7L).titulo("Estudar").build();
+        when(chaveRepository.findById("chave-1")).thenReturn(Optional.of(ChaveIdempotencia.builder()
+                .chave("chave-1")
+                .impressao(RegistroIdempotencia.impressao(createDTO))
+                .tarefaId(7L)
+                .build()));
+        when(tarefaService.buscarPorId(7L)).thenReturn(original);
+
+        RegistroIdempotencia.Resultado resultado = registro.criar("chave-1", createDTO);
+
+        assertTrue(resultado.repetida());
+        assertSame(original, resultado.tarefa());
+    }
+
+    private RegistroIdempotencia criarRegistro(boolean persistente) {
+        return new RegistroIdempotencia(tarefaService, chaveRepository, transacao, objectMapper,
+                100, Duration.ofHours(1), persistente);
+    }
+
+    private static TarefaCreateDTO tarefa(String titulo) {
+        return TarefaCreateDTO.builder().titulo(titulo).status(StatusTarefa.PENDENTE).build();
+    }
+}
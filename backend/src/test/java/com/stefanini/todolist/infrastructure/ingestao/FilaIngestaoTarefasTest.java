@@ -0,0 +1,120 @@
+package com.stefanini.todolist.infrastructure.ingestao;
+
+import com.stefanini.todolist.application.dtos.IngestaoTarefaDTO;
+import com.stefanini.todolist.application.dtos.ResultadoLoteDTO;
+import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.infrastructure.exceptions.QueueFullException;
+import com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe FilaIngestaoTarefas.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes da FilaIngestaoTarefas")
+class FilaIngestaoTarefasTest {
+
+    private final TarefaService tarefaService = mock(TarefaService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FilaIngestaoTarefas fila;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        fila.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as tarefas enviadas na mesma janela em uma única transação")
+    void deveGravarTarefasEmGrupo() throws Exception {
+        fila = criarFila(10, 500);
+        when(tarefaService.criarEmLote(anyList())).thenReturn(ResultadoLoteDTO.builder()
+                .totalRecebido(2)
+                .totalCriado(1)
+                .criadas(List.of(TarefaResponseDTO.builder().id(10L).titulo("Primeira").build()))
+                .falhas(List.of(new ResultadoLoteDTO.Falha(1, List.of("titulo: O título é obrigatório"))))
+                .build());
+
+        FilaIngestaoTarefas.Recibo primeira = fila.enviar(tarefa("Primeira"));
+        FilaIngestaoTarefas.Recibo segunda = fila.enviar(tarefa(""));
+        fila.iniciar();
+
+        IngestaoTarefaDTO criada = primeira.resultado().get(5, TimeUnit.SECONDS);
+        IngestaoTarefaDTO rejeitada = segunda.resultado().get(5, TimeUnit.SECONDS);
+
+        assertEquals(IngestaoTarefaDTO.Situacao.CRIADA, criada.getSituacao());
+        assertEquals(10L, criada.getTarefa().getId());
+        assertEquals(IngestaoTarefaDTO.Situacao.REJEITADA, rejeitada.getSituacao());
+        assertEquals(List.of("titulo: O título é obrigatório"), rejeitada.getErros());
+        assertEquals(IngestaoTarefaDTO.Situacao.CRIADA, fila.consultar(primeira.token()).getSituacao());
+        verify(tarefaService, times(1)).criarEmLote(anyList());
+        assertEquals(1L, meterRegistry.get("todolist.ingestao.gravacao").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar todas as tarefas do grupo quando a gravação falhar")
+    void deveRejeitarGrupoQuandoGravacaoFalhar() throws Exception {
+        fila = criarFila(10, 0);
+        when(tarefaService.criarEmLote(anyList())).thenThrow(new IllegalStateException("banco indisponível"));
+        fila.iniciar();
+
+        IngestaoTarefaDTO situacao = fila.enviar(tarefa("Tarefa")).resultado().get(5, TimeUnit.SECONDS);
+
+        assertEquals(IngestaoTarefaDTO.Situacao.REJEITADA, situacao.getSituacao());
+        assertNull(situacao.getTarefa());
+    }
+
+    @Test
+    @DisplayName("Deve recusar envios com a fila cheia")
+    void deveRecusarEnvioComFilaCheia() {
+        fila = criarFila(1, 0);
+
+        FilaIngestaoTarefas.Recibo aceito = fila.enviar(tarefa("Primeira"));
+
+        assertThrows(QueueFullException.class, () -> fila.enviar(tarefa("Segunda")));
+        assertEquals(IngestaoTarefaDTO.Situacao.PENDENTE, fila.consultar(aceito.token()).getSituacao());
+        assertEquals(1.0, meterRegistry.get("todolist.ingestao.fila").gauge().value());
+        assertEquals(1.0, meterRegistry.get("todolist.ingestao.recusadas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao consultar token desconhecido")
+    void deveLancarExcecaoParaTokenDesconhecido() {
+        fila = criarFila(1, 0);
+
+        assertThrows(ResourceNotFoundException.class, () -> fila.consultar("desconhecido"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar grupo máximo maior que o tamanho máximo do lote")
+    void deveRecusarGrupoMaiorQueLote() {
+        fila = criarFila(1, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new FilaIngestaoTarefas(tarefaService, meterRegistry,
+                10, 1001, 1000, 0, Duration.ofMinutes(1), 1000));
+    }
+
+    private FilaIngestaoTarefas criarFila(int tamanhoFila, long janelaMs) {
+        return new FilaIngestaoTarefas(tarefaService, meterRegistry,
+                tamanhoFila, 100, 1000, janelaMs, Duration.ofMinutes(1), 1000);
+    }
+
+    private static TarefaCreateDTO tarefa(String titulo) {
+        return TarefaCreateDTO.builder().titulo(titulo).build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.stefanini.todolist.infrastructure.limites;
+
+import com.stefanini.todolist.infrastructure.exceptions.RateLimitExceededException;
+import com.stefanini.todolist.infrastructure.exceptions.ServiceOverloadedException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para as classes LimitadorRequisicoes e BaldeTokens.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do LimitadorRequisicoes")
+class LimitadorRequisicoesTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve permitir a rajada e repor os tokens na taxa configurada")
+    void deveReporTokensNaTaxa() {
+        BaldeTokens balde = new BaldeTokens(2, 1, 0);
+
+        assertEquals(0, balde.consumir(0));
+        assertEquals(0, balde.consumir(0));
+        assertEquals(SEGUNDO, balde.consumir(0));
+        assertEquals(SEGUNDO / 2, balde.consumir(SEGUNDO / 2));
+        assertEquals(0, balde.consumir(SEGUNDO));
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 429 ao exceder o limite do endpoint, mantendo os demais clientes")
+    void deveRecusarAoExcederLimite() throws Exception {
+        LimitadorRequisicoes limitador = criarLimitador(mock(DataSource.class), 0, Set.of());
+
+        assertTrue(limitador.preHandle(requisicao("GET", "/api/tarefas", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+        RateLimitExceededException excecao = assertThrows(RateLimitExceededException.class,
+                () -> limitador.preHandle(requisicao("GET", "/api/tarefas", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+
+        assertTrue(excecao.getRetryAfterSegundos() >= 1);
+        assertTrue(limitador.preHandle(requisicao("GET", "/api/tarefas", "10.0.0.2"), new MockHttpServletResponse(), handler()));
+        assertTrue(limitador.preHandle(requisicao("GET", "/api/tarefas/{id}", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+        assertEquals(1.0, meterRegistry.get("todolist.limites.recusadas")
+                .tag("motivo", "limite").tag("categoria", "listagem").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve identificar o cliente pelo X-Forwarded-For apenas quando enviado por proxy confiável")
+    void deveIdentificarClienteAtrasDeProxyConfiavel() throws Exception {
+        LimitadorRequisicoes limitador = criarLimitador(mock(DataSource.class), 0, Set.of("10.0.0.100"));
+
+        assertTrue(limitador.preHandle(encaminhada("10.0.0.100", "192.168.0.1"), new MockHttpServletResponse(), handler()));
+        assertTrue(limitador.preHandle(encaminhada("10.0.0.100", "192.168.0.2"), new MockHttpServletResponse(), handler()));
+        assertTrue(limitador.preHandle(encaminhada("10.0.0.100", "192.168.0.1, 192.168.0.3, 10.0.0.100"),
+                new MockHttpServletResponse(), handler()));
+        assertThrows(RateLimitExceededException.class,
+                () -> limitador.preHandle(encaminhada("10.0.0.100", "192.168.0.9, 192.168.0.1"), new MockHttpServletResponse(), handler()));
+
+        assertTrue(limitador.preHandle(encaminhada("10.0.0.7", "192.168.0.4"), new MockHttpServletResponse(), handler()));
+        assertThrows(RateLimitExceededException.class,
+                () -> limitador.preHandle(encaminhada("10.0.0.7", "192.168.0.5"), new MockHttpServletResponse(), handler()));
+    }
+
+    @Test
+    @DisplayName("Deve descartar listagens com 503 enquanto o pool estiver saturado")
+    void deveDescartarListagensSobSaturacao() throws Exception {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getMaximumPoolSize()).thenReturn(10);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(4, 5);
+        LimitadorRequisicoes limitador = criarLimitador(dataSource, 0.5, Set.of());
+
+        assertTrue(limitador.preHandle(requisicao("GET", "/api/tarefas/status/{status}", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+        assertThrows(ServiceOverloadedException.class,
+                () -> limitador.preHandle(requisicao("GET", "/api/tarefas/status/{status}", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+        assertTrue(limitador.preHandle(requisicao("GET", "/api/tarefas/{id}", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+        assertTrue(limitador.preHandle(requisicao("POST", "/api/tarefas", "10.0.0.1"), new MockHttpServletResponse(), handler()));
+        assertEquals(1.0, meterRegistry.get("todolist.limites.recusadas")
+                .tag("motivo", "saturacao").tag("categoria", "listagem").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve classificar os endpoints por método e rota")
+    void deveCategorizarEndpoints() {
+        LimitadorRequisicoes limitador = criarLimitador(mock(DataSource.class), 0, Set.of());
+
+        assertEquals(LimitadorRequisicoes.Categoria.LISTAGEM, limitador.categorizar("GET", "/api/tarefas"));
+        assertEquals(LimitadorRequisicoes.Categoria.LEITURA, limitador.categorizar("GET", "/api/tarefas/{id}"));
+        assertEquals(LimitadorRequisicoes.Categoria.ESCRITA, limitador.categorizar("POST", "/api/tarefas"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private LimitadorRequisicoes criarLimitador(DataSource dataSource, double fracaoPool, Set<String> proxiesConfiaveis) {
+        ObjectProvider<DataSource> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(dataSource);
+        return new LimitadorRequisicoes(provider, meterRegistry, true, "", proxiesConfiaveis,
+                Set.of("/api/tarefas", "/api/tarefas/status/{status}"),
+                1, 0.1, 10, 1, 10, 1, fracaoPool, 1000);
+    }
+
+    private static MockHttpServletRequest encaminhada(String proxy, String encaminhadoPara) {
+        MockHttpServletRequest request = requisicao("GET", "/api/tarefas", proxy);
+        request.addHeader("X-Forwarded-For", encaminhadoPara);
+        return request;
+    }
+
+    private static MockHttpServletRequest requisicao(String metodo, String padrao, String endereco) {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, padrao);
+        request.setRemoteAddr(endereco);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, padrao);
+        return request;
+    }
+
+    private static HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import com.stefanini.todolist.domain.repositories.TarefaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe AmostradorConsultasLentas.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do AmostradorConsultasLentas")
+class AmostradorConsultasLentasTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AmostradorConsultasLentas amostrador;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        amostrador = new AmostradorConsultasLentas(200, 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar consultas abaixo do limite")
+    void deveIgnorarConsultasRapidas() {
+        amostrador.afterInvocation(invocacao(50));
+
+        assertEquals(0.0, meterRegistry.get("todolist.sql.lentas").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve contar todas as consultas lentas e limitar os registros por minuto")
+    void deveContarTodasELimitarRegistros() {
+        for (int i = 0; i < 5; i++) {
+            amostrador.afterInvocation(invocacao(300));
+        }
+
+        assertEquals(5.0, meterRegistry.get("todolist.sql.lentas").counter().count());
+        assertFalse(amostrador.permitirRegistro());
+    }
+
+    private static RepositoryMethodInvocation invocacao(long duracaoMs) {
+        try {
+            RepositoryMethodInvocationResult resultado = mock(RepositoryMethodInvocationResult.class);
+            when(resultado.getState()).thenReturn(RepositoryMethodInvocationResult.State.SUCCESS);
+            return new RepositoryMethodInvocation(TarefaRepository.class,
+                    TarefaRepository.class.getMethod("findAll"), resultado,
+                    TimeUnit.MILLISECONDS.toNanos(duracaoMs));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.internal.StatisticalLoggingSessionEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que, quando ativadas ({@code todolist.sql.estatisticas=true}), as estatísticas
+ * do Hibernate não produzem o log "Session Metrics" a cada sessão com a configuração
+ * da aplicação.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do log de métricas de sessão do Hibernate")
+class MetricasSessaoLogTest {
+
+    private final Logger logMetricasSessao = (Logger) LoggerFactory.getLogger(StatisticalLoggingSessionEventListener.class);
+    private Level nivelOriginal;
+    private ListAppender<ILoggingEvent> registros;
+
+    @BeforeEach
+    void setUp() {
+        nivelOriginal = logMetricasSessao.getLevel();
+        registros = new ListAppender<>();
+        registros.start();
+        logMetricasSessao.addAppender(registros);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logMetricasSessao.detachAppender(registros);
+        logMetricasSessao.setLevel(nivelOriginal);
+    }
+
+    @Test
+    @DisplayName("Não deve registrar métricas por sessão com o nível configurado em application.properties")
+    void naoDeveRegistrarMetricasPorSessao() throws IOException {
+        Properties propriedades = PropertiesLoaderUtils.loadAllProperties("application.properties");
+        assertEquals("${todolist.sql.estatisticas:false}",
+                propriedades.getProperty("spring.jpa.properties.hibernate.generate_statistics"));
+        String nivel = propriedades.getProperty("logging.level." + StatisticalLoggingSessionEventListener.class.getName());
+        assertNotNull(nivel, "Nível do log de métricas de sessão não configurado");
+
+        logMetricasSessao.setLevel(Level.toLevel(nivel));
+        executarSessao("metricas_sessao_configurado");
+
+        assertTrue(registros.list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve registrar métricas por sessão em INFO (controle do teste)")
+    void deveRegistrarMetricasPorSessaoEmInfo() {
+        logMetricasSessao.setLevel(Level.INFO);
+        executarSessao("metricas_sessao_info");
+
+        assertFalse(registros.list.isEmpty());
+    }
+
+    private static void executarSessao(String banco) {
+        Configuration configuracao = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:" + banco + ";DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.generate_statistics", "true");
+        try (SessionFactory sessionFactory = configuracao.buildSessionFactory()) {
+            sessionFactory.inSession(sessao -> sessao.createNativeQuery("SELECT 1", Integer.class).getSingleResult());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.services.TarefaService;
+import com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe MetricasTarefaServiceAspect.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do MetricasTarefaServiceAspect")
+class MetricasTarefaServiceAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TarefaService tarefaService;
+    private TarefaService servicoMedido;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tarefaService = mock(TarefaService.class);
+
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(tarefaService);
+        fabrica.addAspect(new MetricasTarefaServiceAspect(meterRegistry));
+        servicoMedido = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve medir a duração e o tamanho do resultado das listagens")
+    void deveMedirListagens() {
+        when(tarefaService.listarTodas()).thenReturn(List.of(
+                TarefaResponseDTO.builder().id(1L).build(),
+                TarefaResponseDTO.builder().id(2L).build()));
+
+        servicoMedido.listarTodas();
+        servicoMedido.listarTodas();
+
+        assertEquals(2, meterRegistry.get(MetricasTarefaServiceAspect.METRICA_OPERACOES)
+                .tags("operacao", "listarTodas", "resultado", "sucesso").timer().count());
+        assertEquals(4.0, meterRegistry.get(MetricasTarefaServiceAspect.METRICA_TAMANHO)
+                .tag("operacao", "listarTodas").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Deve registrar falhas no timer de erro e repassar a exceção")
+    void deveMedirFalhas() {
+        when(tarefaService.buscarPorId(99L)).thenThrow(new ResourceNotFoundException("Tarefa não encontrada com ID: 99"));
+
+        assertThrows(ResourceNotFoundException.class, () -> servicoMedido.buscarPorId(99L));
+
+        assertEquals(1, meterRegistry.get(MetricasTarefaServiceAspect.METRICA_OPERACOES)
+                .tags("operacao", "buscarPorId", "resultado", "erro").timer().count());
+        assertNull(meterRegistry.find(MetricasTarefaServiceAspect.METRICA_TAMANHO)
+                .tag("operacao", "buscarPorId").summary());
+    }
+}
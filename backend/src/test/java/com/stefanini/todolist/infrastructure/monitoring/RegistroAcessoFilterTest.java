@@ -0,0 +1,68 @@
+package com.stefanini.todolist.infrastructure.monitoring;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe RegistroAcessoFilter.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do RegistroAcessoFilter")
+class RegistroAcessoFilterTest {
+
+    private final RegistroAcessoFilter filtro = new RegistroAcessoFilter();
+    private final Logger logAcesso = (Logger) LoggerFactory.getLogger("todolist.acesso");
+    private ListAppender<ILoggingEvent> registros;
+
+    @BeforeEach
+    void setUp() {
+        registros = new ListAppender<>();
+        registros.start();
+        logAcesso.addAppender(registros);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logAcesso.detachAppender(registros);
+    }
+
+    @Test
+    @DisplayName("Deve registrar um único log com método, caminho, status e linhas")
+    void deveRegistrarUmLogPorRequisicao() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tarefas");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filtro.doFilter(request, response, (req, res) -> req.setAttribute(RegistroAcessoFilter.ATRIBUTO_LINHAS, 42));
+
+        assertEquals(1, registros.list.size());
+        String mensagem = registros.list.get(0).getFormattedMessage();
+        assertTrue(mensagem.startsWith("GET /api/tarefas 200 "));
+        assertTrue(mensagem.endsWith("linhas=42"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar o status de erro quando não há contagem de linhas")
+    void deveRegistrarStatusSemLinhas() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/tarefas/99");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filtro.doFilter(request, response, (req, res) -> response.setStatus(404));
+
+        String mensagem = registros.list.get(0).getFormattedMessage();
+        assertTrue(mensagem.startsWith("DELETE /api/tarefas/99 404 "));
+        assertTrue(mensagem.endsWith("linhas=-"));
+    }
+}
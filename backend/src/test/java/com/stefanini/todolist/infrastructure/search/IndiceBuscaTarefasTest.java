@@ -0,0 +1,79 @@
+package com.stefanini.todolist.infrastructure.search;
+
+import com.stefanini.todolist.infrastructure.exceptions.ServiceOverloadedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o índice de busca textual de tarefas.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do IndiceBuscaTarefas")
+class IndiceBuscaTarefasTest {
+
+    private IndiceBuscaTarefas indice;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        indice = new IndiceBuscaTarefas(new ByteBuffersDirectory());
+        indice.indexar(1L, "Revisar contrato", "Enviar relatório financeiro ao cliente");
+        indice.indexar(2L, "Preparar relatório mensal", null);
+        indice.indexar(3L, "Comprar café", "Reposição da copa");
+        indice.marcarPronto();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        indice.close();
+    }
+
+    @Test
+    @DisplayName("Deve ranquear ocorrências no título acima das ocorrências na descrição")
+    void deveRanquearTituloAcimaDaDescricao() {
+        IndiceBuscaTarefas.ResultadoBusca resultado = indice.buscar("relatórios", 0, 10);
+
+        assertEquals(2, resultado.total());
+        assertEquals(List.of(2L, 1L), resultado.ids());
+    }
+
+    @Test
+    @DisplayName("Deve tratar caracteres de sintaxe como texto")
+    void deveTratarSintaxeComoTexto() {
+        IndiceBuscaTarefas.ResultadoBusca resultado = indice.buscar("café (copa)", 0, 10);
+
+        assertEquals(List.of(3L), resultado.ids());
+    }
+
+    @Test
+    @DisplayName("Deve refletir remoções após atualizar o leitor")
+    void deveRefletirRemocoes() {
+        indice.remover(2L);
+        indice.atualizarLeitor();
+
+        assertEquals(List.of(1L), indice.buscar("relatório", 0, 10).ids());
+    }
+
+    @Test
+    @DisplayName("Deve recusar buscas até o fim da carga inicial")
+    void deveRecusarBuscasAntesDaCarga() throws IOException {
+        try (IndiceBuscaTarefas emCarga = new IndiceBuscaTarefas(new ByteBuffersDirectory())) {
+            emCarga.indexar(1L, "Revisar contrato", null);
+
+            assertThrows(ServiceOverloadedException.class, () -> emCarga.buscar("contrato", 0, 10));
+
+            emCarga.marcarPronto();
+            assertEquals(List.of(1L), emCarga.buscar("contrato", 0, 10).ids());
+        }
+    }
+}
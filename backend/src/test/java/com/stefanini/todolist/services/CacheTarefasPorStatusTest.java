@@ -0,0 +1,136 @@
+package com.stefanini.todolist.services;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.application.services.CacheTarefasPorStatus;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe CacheTarefasPorStatus.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do CacheTarefasPorStatus")
+class CacheTarefasPorStatusTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 1, 9, 10, 0);
+
+    private CacheTarefasPorStatus cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheTarefasPorStatus(DataSize.ofMegabytes(1));
+        carregar(StatusTarefa.PENDENTE, tarefa(3L, StatusTarefa.PENDENTE, 3, 0L), tarefa(1L, StatusTarefa.PENDENTE, 1, 0L));
+        carregar(StatusTarefa.CONCLUIDA, tarefa(2L, StatusTarefa.CONCLUIDA, 2, 0L));
+    }
+
+    @Test
+    @DisplayName("Deve inserir a tarefa criada na posição ordenada do seu status")
+    void deveInserirTarefaCriadaEmOrdem() {
+        cache.aoAlterarTarefa(TarefaEvento.criada(tarefa(4L, StatusTarefa.PENDENTE, 2, 0L)));
+
+        assertEquals(List.of(3L, 4L, 1L), ids(StatusTarefa.PENDENTE));
+    }
+
+    @Test
+    @DisplayName("Deve mover a tarefa entre os status na mudança de status")
+    void deveMoverTarefaEntreStatus() {
+        cache.aoAlterarTarefa(TarefaEvento.atualizada(StatusTarefa.PENDENTE, tarefa(1L, StatusTarefa.CONCLUIDA, 1, 1L)));
+
+        assertEquals(List.of(3L), ids(StatusTarefa.PENDENTE));
+        assertEquals(List.of(2L, 1L), ids(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve remover a tarefa apenas do status removido")
+    void deveRemoverTarefaDoStatusRemovido() {
+        cache.aoAlterarTarefa(TarefaEvento.removida(2L, StatusTarefa.CONCLUIDA));
+
+        assertEquals(List.of(), ids(StatusTarefa.CONCLUIDA));
+        assertEquals(List.of(3L, 1L), ids(StatusTarefa.PENDENTE));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o snapshot até a próxima alteração sem modificar os já lidos")
+    void deveReaproveitarSnapshotAteProximaAlteracao() {
+        List<TarefaResponseDTO> lido = cache.obter(StatusTarefa.PENDENTE);
+        assertSame(lido, cache.obter(StatusTarefa.PENDENTE));
+
+        cache.aoAlterarTarefa(TarefaEvento.criada(tarefa(4L, StatusTarefa.PENDENTE, 4, 0L)));
+        cache.aoAlterarTarefa(TarefaEvento.removida(1L, StatusTarefa.PENDENTE));
+
+        assertEquals(List.of(3L, 1L), lido.stream().map(TarefaResponseDTO::getId).toList());
+        assertEquals(List.of(4L, 3L), ids(StatusTarefa.PENDENTE));
+        assertNotSame(lido, cache.obter(StatusTarefa.PENDENTE));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os status envolvidos em uma atualização fora de ordem")
+    void deveDescartarStatusEmAtualizacaoForaDeOrdem() {
+        cache.aoAlterarTarefa(TarefaEvento.atualizada(StatusTarefa.PENDENTE, tarefa(1L, StatusTarefa.CONCLUIDA, 1, 5L)));
+
+        assertNull(cache.obter(StatusTarefa.PENDENTE));
+        assertNull(cache.obter(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve descartar todos os status em uma alteração em lote por filtro")
+    void deveDescartarStatusEmAlteracaoEmLote() {
+        cache.aoAlterarStatusEmLote(new StatusAlteradoEmLoteEvento(null, null, StatusTarefa.CONCLUIDA, 3));
+
+        assertNull(cache.obter(StatusTarefa.PENDENTE));
+        assertNull(cache.obter(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar um snapshot lido antes de uma alteração concorrente")
+    void naoDeveArmazenarSnapshotDesatualizado() {
+        long marca = cache.marca(StatusTarefa.EM_ANDAMENTO);
+        cache.aoAlterarTarefa(TarefaEvento.criada(tarefa(5L, StatusTarefa.EM_ANDAMENTO, 5, 0L)));
+
+        cache.armazenar(StatusTarefa.EM_ANDAMENTO, marca, List.of());
+
+        assertNull(cache.obter(StatusTarefa.EM_ANDAMENTO));
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar status que excedem o limite de memória")
+    void naoDeveArmazenarAcimaDoLimiteDeMemoria() {
+        CacheTarefasPorStatus pequeno = new CacheTarefasPorStatus(DataSize.ofBytes(500));
+
+        pequeno.armazenar(StatusTarefa.PENDENTE, pequeno.marca(StatusTarefa.PENDENTE),
+                List.of(tarefa(1L, StatusTarefa.PENDENTE, 1, 0L), tarefa(2L, StatusTarefa.PENDENTE, 2, 0L)));
+
+        assertNull(pequeno.obter(StatusTarefa.PENDENTE));
+    }
+
+    private void carregar(StatusTarefa status, TarefaResponseDTO... tarefas) {
+        cache.armazenar(status, cache.marca(status), List.of(tarefas));
+    }
+
+    private List<Long> ids(StatusTarefa status) {
+        return cache.obter(status).stream().map(TarefaResponseDTO::getId).toList();
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, StatusTarefa status, int minutos, Long versao) {
+        return TarefaResponseDTO.builder()
+                .id(id)
+                .titulo("Tarefa " + id)
+                .status(status)
+                .dataCriacao(AGORA.plusMinutes(minutos))
+                .versao(versao)
+                .build();
+    }
+}
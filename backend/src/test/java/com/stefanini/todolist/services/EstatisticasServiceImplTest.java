@@ -0,0 +1,87 @@
+package com.stefanini.todolist.services;
+
+import com.stefanini.todolist.application.dtos.EstatisticasTarefasDTO;
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.application.services.EstatisticasServiceImpl;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.domain.projections.ContagemPorStatus;
+import com.stefanini.todolist.domain.repositories.TarefaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a classe EstatisticasServiceImpl.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-08
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do EstatisticasService")
+class EstatisticasServiceImplTest {
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @InjectMocks
+    private EstatisticasServiceImpl estatisticasService;
+
+    @BeforeEach
+    void setUp() {
+        when(tarefaRepository.countGroupByStatus()).thenReturn(List.of(
+                contagem(StatusTarefa.PENDENTE, 3L),
+                contagem(StatusTarefa.CONCLUIDA, 1L)));
+        estatisticasService.reconciliar();
+    }
+
+    @Test
+    @DisplayName("Deve carregar os contadores a partir do banco")
+    void deveCarregarContadoresDoBanco() {
+        EstatisticasTarefasDTO resultado = estatisticasService.obterEstatisticas();
+
+        assertEquals(3L, resultado.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertEquals(0L, resultado.getPorStatus().get(StatusTarefa.EM_ANDAMENTO));
+        assertEquals(1L, resultado.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        assertEquals(4L, resultado.getTotal());
+    }
+
+    @Test
+    @DisplayName("Deve mover a contagem entre status sem consultar o banco")
+    void deveAtualizarContadoresIncrementalmente() {
+        TarefaResponseDTO tarefa = TarefaResponseDTO.builder().id(1L).status(StatusTarefa.EM_ANDAMENTO).build();
+
+        estatisticasService.aoAlterarTarefa(TarefaEvento.atualizada(StatusTarefa.PENDENTE, tarefa));
+        estatisticasService.aoAlterarTarefa(TarefaEvento.removida(2L, StatusTarefa.CONCLUIDA));
+        EstatisticasTarefasDTO resultado = estatisticasService.obterEstatisticas();
+
+        assertEquals(2L, resultado.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertEquals(1L, resultado.getPorStatus().get(StatusTarefa.EM_ANDAMENTO));
+        assertEquals(0L, resultado.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        verify(tarefaRepository, times(1)).countGroupByStatus();
+    }
+
+    private static ContagemPorStatus contagem(StatusTarefa status, Long total) {
+        return new ContagemPorStatus() {
+            @Override
+            public StatusTarefa getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
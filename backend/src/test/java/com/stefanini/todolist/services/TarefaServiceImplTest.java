@@ -1,13 +1,34 @@
 package com.stefanini.todolist.services;
 
+import com.stefanini.todolist.application.dtos.AlteracaoStatusLoteDTO;
+import com.stefanini.todolist.application.dtos.AlteracaoStatusResultadoDTO;
+import com.stefanini.todolist.application.dtos.PaginaCursorDTO;
+import com.stefanini.todolist.application.dtos.ResultadoBuscaDTO;
+import com.stefanini.todolist.application.dtos.ResultadoLoteDTO;
 import com.stefanini.todolist.application.dtos.TarefaCreateDTO;
+import com.stefanini.todolist.application.dtos.TarefaPatchDTO;
 import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.dtos.TarefaResumoDTO;
 import com.stefanini.todolist.application.dtos.TarefaUpdateDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.application.mappers.TarefaMapper;
+import com.stefanini.todolist.application.services.CursorTarefa;
+import com.stefanini.todolist.application.services.CacheTarefasPorStatus;
 import com.stefanini.todolist.application.services.TarefaServiceImpl;
 import com.stefanini.todolist.domain.entities.Tarefa;
 import com.stefanini.todolist.domain.enums.StatusTarefa;
+import com.stefanini.todolist.domain.projections.EstadoTarefa;
 import com.stefanini.todolist.domain.repositories.TarefaRepository;
+import com.stefanini.todolist.infrastructure.config.CacheConfig;
+import com.stefanini.todolist.infrastructure.exceptions.InvalidDataException;
 import com.stefanini.todolist.infrastructure.exceptions.ResourceNotFoundException;
+import com.stefanini.todolist.infrastructure.exceptions.VersionConflictException;
+import com.stefanini.todolist.infrastructure.search.IndiceBuscaTarefas;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,12 +36,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,7 +70,28 @@ class TarefaServiceImplTest {
     private TarefaRepository tarefaRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TarefaMapper tarefaMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private IndiceBuscaTarefas indiceBusca;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private CacheTarefasPorStatus cacheTarefasPorStatus;
 
     @InjectMocks
     private TarefaServiceImpl tarefaService;
@@ -54,12 +103,16 @@ class TarefaServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(tarefaService, "tamanhoMaximoLote", 1000);
+        ReflectionTestUtils.setField(tarefaService, "tamanhoBatch", 50);
+
         tarefa = Tarefa.builder()
                 .id(1L)
                 .titulo("Teste")
                 .descricao("Descrição de teste")
                 .status(StatusTarefa.PENDENTE)
                 .dataCriacao(LocalDateTime.now())
+                .versao(2L)
                 .build();
 
         createDTO = TarefaCreateDTO.builder()
@@ -86,9 +139,9 @@ class TarefaServiceImplTest {
     @Test
     @DisplayName("Deve criar uma tarefa com sucesso")
     void deveCriarTarefaComSucesso() {
-        when(modelMapper.map(createDTO, Tarefa.class)).thenReturn(tarefa);
+        when(tarefaMapper.toEntity(createDTO)).thenReturn(tarefa);
         when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefa);
-        when(modelMapper.map(tarefa, TarefaResponseDTO.class)).thenReturn(responseDTO);
+        when(tarefaMapper.toResponseDTO(tarefa)).thenReturn(responseDTO);
 
         TarefaResponseDTO resultado = tarefaService.criar(createDTO);
 
@@ -101,7 +154,7 @@ class TarefaServiceImplTest {
     @DisplayName("Deve buscar tarefa por ID com sucesso")
     void deveBuscarTarefaPorIdComSucesso() {
         when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
-        when(modelMapper.map(tarefa, TarefaResponseDTO.class)).thenReturn(responseDTO);
+        when(tarefaMapper.toResponseDTO(tarefa)).thenReturn(responseDTO);
 
         TarefaResponseDTO resultado = tarefaService.buscarPorId(1L);
 
@@ -127,7 +180,7 @@ class TarefaServiceImplTest {
     void deveListarTodasAsTarefas() {
         List<Tarefa> tarefas = Arrays.asList(tarefa);
         when(tarefaRepository.findAllOrderByDataCriacaoDesc()).thenReturn(tarefas);
-        when(modelMapper.map(any(Tarefa.class), eq(TarefaResponseDTO.class))).thenReturn(responseDTO);
+        when(tarefaMapper.toResponseDTO(any(Tarefa.class))).thenReturn(responseDTO);
 
         List<TarefaResponseDTO> resultado = tarefaService.listarTodas();
 
@@ -137,44 +190,323 @@ class TarefaServiceImplTest {
         verify(tarefaRepository, times(1)).findAllOrderByDataCriacaoDesc();
     }
 
+    @Test
+    @DisplayName("Deve listar o resumo das tarefas sem carregar entidades")
+    void deveListarResumoDasTarefas() {
+        TarefaResumoDTO resumo = TarefaResumoDTO.builder()
+                .id(1L).titulo("Tarefa Teste").status(StatusTarefa.PENDENTE).versao(2L).build();
+        when(tarefaRepository.findResumoOrderByDataCriacaoDesc()).thenReturn(List.of(resumo));
+
+        List<TarefaResumoDTO> resultado = tarefaService.listarResumo();
+
+        assertEquals(1, resultado.size());
+        assertEquals("Tarefa Teste", resultado.get(0).getTitulo());
+        verify(tarefaRepository, never()).findAllOrderByDataCriacaoDesc();
+        verifyNoInteractions(tarefaMapper);
+    }
+
     @Test
     @DisplayName("Deve atualizar tarefa com sucesso")
     void deveAtualizarTarefaComSucesso() {
         when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
-        when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefa);
-        when(modelMapper.map(tarefa, TarefaResponseDTO.class)).thenReturn(responseDTO);
+        when(tarefaRepository.saveAndFlush(any(Tarefa.class))).thenReturn(tarefa);
+        when(tarefaMapper.toResponseDTO(tarefa)).thenReturn(responseDTO);
 
         TarefaResponseDTO resultado = tarefaService.atualizar(1L, updateDTO);
 
         assertNotNull(resultado);
         verify(tarefaRepository, times(1)).findById(1L);
-        verify(tarefaRepository, times(1)).save(any(Tarefa.class));
+        verify(tarefaRepository, times(1)).saveAndFlush(any(Tarefa.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TarefaEvento.class));
     }
 
     @Test
-    @DisplayName("Deve deletar tarefa com sucesso")
+    @DisplayName("Deve atualizar parcialmente tarefa com a versão atual")
+    void deveAtualizarParcialmenteComVersaoAtual() {
+        TarefaPatchDTO patchDTO = TarefaPatchDTO.builder()
+                .status(StatusTarefa.CONCLUIDA)
+                .versao(2L)
+                .build();
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+        when(tarefaRepository.saveAndFlush(tarefa)).thenReturn(tarefa);
+        when(tarefaMapper.toResponseDTO(tarefa)).thenReturn(responseDTO);
+
+        TarefaResponseDTO resultado = tarefaService.atualizarParcialmente(1L, patchDTO);
+
+        assertNotNull(resultado);
+        verify(tarefaMapper, times(1)).aplicar(patchDTO, tarefa);
+        verify(eventPublisher, times(1)).publishEvent(TarefaEvento.atualizada(StatusTarefa.PENDENTE, responseDTO));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização parcial com versão desatualizada")
+    void deveRejeitarAtualizacaoParcialComVersaoDesatualizada() {
+        TarefaPatchDTO patchDTO = TarefaPatchDTO.builder()
+                .titulo("Novo título")
+                .versao(1L)
+                .build();
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+
+        assertThrows(VersionConflictException.class, () -> tarefaService.atualizarParcialmente(1L, patchDTO));
+
+        verify(tarefaMapper, never()).aplicar(any(), any());
+        verify(tarefaRepository, never()).saveAndFlush(any(Tarefa.class));
+    }
+
+    @Test
+    @DisplayName("Deve deletar tarefa fora do cache informando o status removido")
     void deveDeletarTarefaComSucesso() {
-        when(tarefaRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(tarefaRepository).deleteById(1L);
+        when(tarefaRepository.findEstadoById(1L)).thenReturn(Optional.of(estado(StatusTarefa.EM_ANDAMENTO, 3L)));
+        when(tarefaRepository.deleteRowByIdAndVersao(1L, 3L)).thenReturn(1);
 
         assertDoesNotThrow(() -> tarefaService.deletar(1L));
 
-        verify(tarefaRepository, times(1)).existsById(1L);
-        verify(tarefaRepository, times(1)).deleteById(1L);
+        verify(tarefaRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(TarefaEvento.removida(1L, StatusTarefa.EM_ANDAMENTO));
+    }
+
+    @Test
+    @DisplayName("Deve reler o estado ao deletar tarefa com versão em cache desatualizada")
+    void deveRelerEstadoAoDeletarComCacheDesatualizado() {
+        responseDTO.setVersao(2L);
+        when(cacheManager.getCache(CacheConfig.CACHE_TAREFAS)).thenReturn(cache);
+        when(cache.get(1L, TarefaResponseDTO.class)).thenReturn(responseDTO);
+        when(tarefaRepository.deleteRowByIdAndVersao(1L, 2L)).thenReturn(0);
+        when(tarefaRepository.findEstadoById(1L)).thenReturn(Optional.of(estado(StatusTarefa.CONCLUIDA, 4L)));
+        when(tarefaRepository.deleteRowByIdAndVersao(1L, 4L)).thenReturn(1);
+
+        tarefaService.deletar(1L);
+
+        verify(eventPublisher, times(1)).publishEvent(TarefaEvento.removida(1L, StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve deletar tarefa em cache informando o status removido")
+    void deveDeletarTarefaEmCacheInformandoStatus() {
+        responseDTO.setVersao(2L);
+        when(cacheManager.getCache(CacheConfig.CACHE_TAREFAS)).thenReturn(cache);
+        when(cache.get(1L, TarefaResponseDTO.class)).thenReturn(responseDTO);
+        when(tarefaRepository.deleteRowByIdAndVersao(1L, 2L)).thenReturn(1);
+
+        tarefaService.deletar(1L);
+
+        verify(tarefaRepository, never()).findEstadoById(any());
+        verify(eventPublisher, times(1)).publishEvent(TarefaEvento.removida(1L, StatusTarefa.PENDENTE));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao deletar tarefa inexistente")
+    void deveLancarExcecaoAoDeletarTarefaInexistente() {
+        when(tarefaRepository.findEstadoById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> tarefaService.deletar(99L));
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar tarefa em cache com um único UPDATE")
+    void deveAtualizarTarefaEmCacheComUnicoUpdate() {
+        responseDTO.setVersao(2L);
+        when(cacheManager.getCache(CacheConfig.CACHE_TAREFAS)).thenReturn(cache);
+        when(cache.get(1L, TarefaResponseDTO.class)).thenReturn(responseDTO);
+        when(tarefaRepository.updateRowByIdAndVersao(eq(1L), eq(2L), eq("Teste Atualizado"),
+                eq("Descrição atualizada"), eq(StatusTarefa.EM_ANDAMENTO), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        TarefaResponseDTO resultado = tarefaService.atualizar(1L, updateDTO);
+
+        assertEquals(3L, resultado.getVersao());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, resultado.getStatus());
+        assertEquals(responseDTO.getDataCriacao(), resultado.getDataCriacao());
+        verify(tarefaRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(TarefaEvento.atualizada(StatusTarefa.PENDENTE, resultado));
     }
 
     @Test
     @DisplayName("Deve listar tarefas por status")
     void deveListarTarefasPorStatus() {
         List<Tarefa> tarefas = Arrays.asList(tarefa);
-        when(tarefaRepository.findByStatus(StatusTarefa.PENDENTE)).thenReturn(tarefas);
-        when(modelMapper.map(any(Tarefa.class), eq(TarefaResponseDTO.class))).thenReturn(responseDTO);
+        when(tarefaRepository.findByStatusOrderByDataCriacaoDescIdDesc(StatusTarefa.PENDENTE)).thenReturn(tarefas);
+        when(tarefaMapper.toResponseDTO(any(Tarefa.class))).thenReturn(responseDTO);
 
         List<TarefaResponseDTO> resultado = tarefaService.listarPorStatus(StatusTarefa.PENDENTE);
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(tarefaRepository, times(1)).findByStatus(StatusTarefa.PENDENTE);
+        verify(tarefaRepository, times(1)).findByStatusOrderByDataCriacaoDescIdDesc(StatusTarefa.PENDENTE);
+        verify(cacheTarefasPorStatus).armazenar(StatusTarefa.PENDENTE, 0L, resultado);
     }
-}
 
+    @Test
+    @DisplayName("Deve listar tarefas por status a partir do cache sem consultar o banco")
+    void deveListarTarefasPorStatusDoCache() {
+        when(cacheTarefasPorStatus.obter(StatusTarefa.PENDENTE)).thenReturn(List.of(responseDTO));
+
+        List<TarefaResponseDTO> resultado = tarefaService.listarPorStatus(StatusTarefa.PENDENTE);
+
+        assertEquals(List.of(responseDTO), resultado);
+        verifyNoInteractions(tarefaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor quando existir próxima página")
+    void deveRetornarCursorQuandoExistirProximaPagina() {
+        Tarefa maisAntiga = Tarefa.builder()
+                .id(2L)
+                .titulo("Outra")
+                .status(StatusTarefa.PENDENTE)
+                .dataCriacao(tarefa.getDataCriacao().minusMinutes(1))
+                .build();
+        when(tarefaRepository.findPrimeiraPagina(any(Pageable.class)))
+                .thenReturn(Arrays.asList(tarefa, maisAntiga));
+        when(tarefaMapper.toResponseDTO(any(Tarefa.class))).thenReturn(responseDTO);
+
+        PaginaCursorDTO<TarefaResponseDTO> resultado = tarefaService.listarPaginado(null, 1);
+
+        assertEquals(1, resultado.getTamanho());
+        assertNotNull(resultado.getProximoCursor());
+        CursorTarefa cursor = CursorTarefa.decodificar(resultado.getProximoCursor());
+        assertEquals(tarefa.getId(), cursor.id());
+        assertEquals(tarefa.getDataCriacao(), cursor.dataCriacao());
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página seguinte a partir do cursor")
+    void deveBuscarPaginaSeguinteAPartirDoCursor() {
+        String cursor = CursorTarefa.de(tarefa).codificar();
+        when(tarefaRepository.findPaginaApos(eq(tarefa.getDataCriacao()), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        PaginaCursorDTO<TarefaResponseDTO> resultado = tarefaService.listarPaginado(cursor, 10);
+
+        assertEquals(0, resultado.getTamanho());
+        assertNull(resultado.getProximoCursor());
+        verify(tarefaRepository, never()).findPrimeiraPagina(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor de paginação inválido")
+    void deveRejeitarCursorInvalido() {
+        assertThrows(InvalidDataException.class, () -> tarefaService.listarPaginado("cursor-invalido", 10));
+    }
+
+    @Test
+    @DisplayName("Deve exportar tarefas pela projeção em DTO, sem carregar entidades")
+    void deveExportarTarefasPorProjecao() {
+        when(tarefaRepository.streamResponseByStatus(StatusTarefa.PENDENTE)).thenReturn(Stream.of(responseDTO));
+        List<TarefaResponseDTO> exportadas = new ArrayList<>();
+
+        tarefaService.exportar(StatusTarefa.PENDENTE, exportadas::add);
+
+        assertEquals(List.of(responseDTO), exportadas);
+        verify(tarefaMapper, never()).toResponseDTO(any(Tarefa.class));
+        verify(tarefaRepository, never()).streamResponseAll();
+    }
+
+    @Test
+    @DisplayName("Deve criar lote reportando os itens inválidos")
+    @SuppressWarnings("unchecked")
+    void deveCriarLoteReportandoItensInvalidos() {
+        TarefaCreateDTO invalido = TarefaCreateDTO.builder().titulo("").build();
+        ConstraintViolation<TarefaCreateDTO> violacao = mock(ConstraintViolation.class);
+        Path campo = mock(Path.class);
+        when(campo.toString()).thenReturn("titulo");
+        when(violacao.getPropertyPath()).thenReturn(campo);
+        when(violacao.getMessage()).thenReturn("O título é obrigatório");
+        when(validator.validate(createDTO)).thenReturn(Set.of());
+        when(validator.validate(invalido)).thenReturn(Set.of(violacao));
+        when(tarefaMapper.toEntity(createDTO)).thenReturn(tarefa);
+        when(tarefaRepository.save(tarefa)).thenReturn(tarefa);
+        when(tarefaMapper.toResponseDTO(tarefa)).thenReturn(responseDTO);
+
+        ResultadoLoteDTO resultado = tarefaService.criarEmLote(Arrays.asList(createDTO, invalido, null));
+
+        assertEquals(3, resultado.getTotalRecebido());
+        assertEquals(1, resultado.getTotalCriado());
+        assertEquals(2, resultado.getFalhas().size());
+        assertEquals(1, resultado.getFalhas().get(0).getIndice());
+        assertEquals(List.of("titulo: O título é obrigatório"), resultado.getFalhas().get(0).getErros());
+        assertEquals(2, resultado.getFalhas().get(1).getIndice());
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do tamanho máximo")
+    void deveRejeitarLoteAcimaDoTamanhoMaximo() {
+        ReflectionTestUtils.setField(tarefaService, "tamanhoMaximoLote", 1);
+
+        assertThrows(InvalidDataException.class,
+                () -> tarefaService.criarEmLote(List.of(createDTO, createDTO)));
+        verify(tarefaRepository, never()).save(any(Tarefa.class));
+    }
+
+    @Test
+    @DisplayName("Deve alterar status em lote por filtro com um único UPDATE")
+    void deveAlterarStatusEmLotePorFiltro() {
+        AlteracaoStatusLoteDTO alteracao = AlteracaoStatusLoteDTO.builder()
+                .statusAtual(StatusTarefa.EM_ANDAMENTO)
+                .novoStatus(StatusTarefa.CONCLUIDA)
+                .build();
+        when(tarefaRepository.updateStatusByFiltro(eq(StatusTarefa.EM_ANDAMENTO), isNull(), isNull(),
+                eq(StatusTarefa.CONCLUIDA), any(LocalDateTime.class))).thenReturn(120);
+
+        AlteracaoStatusResultadoDTO resultado = tarefaService.alterarStatusEmLote(alteracao);
+
+        assertEquals(120, resultado.getAfetadas());
+        verify(tarefaRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publishEvent(new StatusAlteradoEmLoteEvento(
+                null, StatusTarefa.EM_ANDAMENTO, StatusTarefa.CONCLUIDA, 120));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar alteração em lote sem IDs nem filtros")
+    void deveRejeitarAlteracaoEmLoteSemSelecao() {
+        AlteracaoStatusLoteDTO alteracao = AlteracaoStatusLoteDTO.builder()
+                .novoStatus(StatusTarefa.CONCLUIDA)
+                .build();
+
+        assertThrows(InvalidDataException.class, () -> tarefaService.alterarStatusEmLote(alteracao));
+    }
+
+    @Test
+    @DisplayName("Deve buscar tarefas mantendo a ordem de relevância do índice")
+    void deveBuscarTarefasMantendoOrdemDeRelevancia() {
+        Tarefa outra = Tarefa.builder().id(2L).titulo("Outra").status(StatusTarefa.PENDENTE).build();
+        TarefaResponseDTO outraDTO = TarefaResponseDTO.builder().id(2L).titulo("Outra").build();
+
+        when(indiceBusca.buscar("teste", 20, 10))
+                .thenReturn(new IndiceBuscaTarefas.ResultadoBusca(List.of(2L, 1L), 42));
+        when(tarefaRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(tarefa, outra));
+        when(tarefaMapper.toResponseDTO(tarefa)).thenReturn(responseDTO);
+        when(tarefaMapper.toResponseDTO(outra)).thenReturn(outraDTO);
+
+        ResultadoBuscaDTO resultado = tarefaService.buscar("teste", 2, 10);
+
+        assertEquals(42, resultado.getTotalEncontrado());
+        assertEquals(List.of(2L, 1L), resultado.getItens().stream().map(TarefaResponseDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca sem termo ou além da janela máxima")
+    void deveRejeitarBuscaInvalida() {
+        assertThrows(InvalidDataException.class, () -> tarefaService.buscar(" ", 0, 20));
+        assertThrows(InvalidDataException.class, () -> tarefaService.buscar("teste", 50, 20));
+        verifyNoInteractions(indiceBusca);
+    }
+
+    private static EstadoTarefa estado(StatusTarefa status, Long versao) {
+        return new EstadoTarefa() {
+            @Override
+            public StatusTarefa getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getVersao() {
+                return versao;
+            }
+        };
+    }
+}
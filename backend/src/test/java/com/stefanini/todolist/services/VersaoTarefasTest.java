@@ -0,0 +1,85 @@
+package com.stefanini.todolist.services;
+
+import com.stefanini.todolist.application.dtos.TarefaResponseDTO;
+import com.stefanini.todolist.application.events.StatusAlteradoEmLoteEvento;
+import com.stefanini.todolist.application.events.TarefaEvento;
+import com.stefanini.todolist.application.services.VersaoTarefas;
+import com.stefanini.todolist.domain.enums.StatusTarefa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe VersaoTarefas.
+ *
+ * @author Stefanini Challenge
+ * @version 1.0
+ * @since 2026-01-09
+ */
+@DisplayName("Testes do VersaoTarefas")
+class VersaoTarefasTest {
+
+    private final VersaoTarefas versaoTarefas = new VersaoTarefas();
+
+    @Test
+    @DisplayName("Deve alterar apenas as ETags dos status envolvidos na alteração")
+    void deveAlterarApenasEtagsDosStatusEnvolvidos() {
+        String todas = versaoTarefas.etagTodas();
+        String pendentes = versaoTarefas.etagPorStatus(StatusTarefa.PENDENTE);
+        String emAndamento = versaoTarefas.etagPorStatus(StatusTarefa.EM_ANDAMENTO);
+        String concluidas = versaoTarefas.etagPorStatus(StatusTarefa.CONCLUIDA);
+
+        TarefaResponseDTO tarefa = TarefaResponseDTO.builder().id(1L).status(StatusTarefa.EM_ANDAMENTO).build();
+        versaoTarefas.aoAlterarTarefa(TarefaEvento.atualizada(StatusTarefa.PENDENTE, tarefa));
+
+        assertNotEquals(todas, versaoTarefas.etagTodas());
+        assertNotEquals(pendentes, versaoTarefas.etagPorStatus(StatusTarefa.PENDENTE));
+        assertNotEquals(emAndamento, versaoTarefas.etagPorStatus(StatusTarefa.EM_ANDAMENTO));
+        assertEquals(concluidas, versaoTarefas.etagPorStatus(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve gerar ETags fracas e distintas para cada representação da listagem")
+    void deveGerarEtagsFracasPorRepresentacao() {
+        String todas = versaoTarefas.etagTodas();
+        String resumo = VersaoTarefas.etagResumo(todas);
+        String colunar = VersaoTarefas.etagColunar(todas);
+
+        assertTrue(todas.startsWith("W/\"") && todas.endsWith("\""));
+        assertTrue(resumo.startsWith("W/\"") && resumo.endsWith("-resumo\""));
+        assertTrue(colunar.startsWith("W/\"") && colunar.endsWith("-colunar\""));
+        assertNotEquals(resumo, colunar);
+    }
+
+    @Test
+    @DisplayName("Deve alterar apenas a ETag do status da tarefa removida")
+    void deveAlterarEtagDoStatusRemovido() {
+        String pendentes = versaoTarefas.etagPorStatus(StatusTarefa.PENDENTE);
+        String concluidas = versaoTarefas.etagPorStatus(StatusTarefa.CONCLUIDA);
+
+        versaoTarefas.aoAlterarTarefa(TarefaEvento.removida(1L, StatusTarefa.PENDENTE));
+
+        assertNotEquals(pendentes, versaoTarefas.etagPorStatus(StatusTarefa.PENDENTE));
+        assertEquals(concluidas, versaoTarefas.etagPorStatus(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve alterar todas as ETags em lote com status de origem desconhecido")
+    void deveAlterarTodasEtagsEmLoteSemStatusDeOrigem() {
+        String concluidas = versaoTarefas.etagPorStatus(StatusTarefa.CONCLUIDA);
+
+        versaoTarefas.aoAlterarStatusEmLote(
+                new StatusAlteradoEmLoteEvento(null, null, StatusTarefa.PENDENTE, 5));
+
+        assertNotEquals(concluidas, versaoTarefas.etagPorStatus(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve derivar a ETag da tarefa do ID e da versão")
+    void deveDerivarEtagDaTarefa() {
+        TarefaResponseDTO tarefa = TarefaResponseDTO.builder().id(7L).versao(3L).build();
+
+        assertEquals("W/\"7-3\"", VersaoTarefas.etagTarefa(tarefa));
+    }
+}
@@ -1,8 +1,9 @@
-import { Component, OnInit, signal, computed, effect } from '@angular/core';
+import { Component, OnInit, OnDestroy, signal, computed, effect } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { TarefaService } from './services/tarefa.service';
-import { Tarefa, StatusTarefa, TarefaCreate, TarefaUpdate } from './models/tarefa.model';
+import { Subscription } from 'rxjs';
+import { Tarefa, StatusTarefa, TarefaCreate, TarefaPatch, EventoTarefa } from './models/tarefa.model';
 
 /**
  * Componente principal da aplicação de gerenciamento de tarefas.
@@ -21,7 +22,7 @@ import { Tarefa, StatusTarefa, TarefaCreate, TarefaUpdate } from './models/taref
   templateUrl: './app.component.html',
   styleUrls: ['./app.component.scss']
 })
-export class AppComponent implements OnInit {
+export class AppComponent implements OnInit, OnDestroy {
   title = 'Sistema de Gerenciamento de Tarefas';
 
   // Signals
@@ -33,6 +34,10 @@ export class AppComponent implements OnInit {
   mensagemErro = signal<string>('');
   tarefaParaDeletar = signal<number | null>(null);
   private timeoutId: any = null;
+  private assinaturaEventos?: Subscription;
+  // Eventos recebidos durante uma carga da lista (null quando não há carga em andamento)
+  private eventosPendentes: EventoTarefa[] | null = null;
+  private cargaAtual = 0;
 
   // Computed
   modoEdicao = computed(() => this.tarefaEditando() !== null);
@@ -52,27 +57,128 @@ export class AppComponent implements OnInit {
   constructor(private tarefaService: TarefaService) {}
 
   ngOnInit(): void {
+    // Assina os eventos antes de carregar; os recebidos durante a carga são reaplicados sobre a lista carregada
+    this.assinaturaEventos = this.tarefaService.acompanharEventos().subscribe({
+      next: (evento) => this.aplicarEvento(evento)
+    });
     this.carregarTarefas();
   }
 
+  ngOnDestroy(): void {
+    this.assinaturaEventos?.unsubscribe();
+  }
+
   /**
    * Carrega todas as tarefas ou filtra por status.
+   *
+   * Os eventos recebidos enquanto a requisição está em andamento são guardados e
+   * reaplicados sobre a lista carregada, que pode ser anterior a eles. Apenas a
+   * carga mais recente é aplicada.
    */
   carregarTarefas(): void {
-    if (this.filtroStatus() === 'TODAS') {
-      this.tarefaService.listarTodas().subscribe({
-        next: (tarefas) => {
-          this.tarefas.set(tarefas);
-        },
-        error: (erro) => this.exibirErro('Erro ao carregar tarefas: ' + erro.message)
-      });
-    } else {
-      this.tarefaService.listarPorStatus(this.filtroStatus() as StatusTarefa).subscribe({
-        next: (tarefas) => {
+    const carga = ++this.cargaAtual;
+    this.eventosPendentes ??= [];
+
+    const todas = this.filtroStatus() === 'TODAS';
+    const requisicao = todas
+      ? this.tarefaService.listarTodas()
+      : this.tarefaService.listarPorStatus(this.filtroStatus() as StatusTarefa);
+    requisicao.subscribe({
+      next: (tarefas) => {
+        if (carga === this.cargaAtual) {
           this.tarefas.set(tarefas);
-        },
-        error: (erro) => this.exibirErro('Erro ao filtrar tarefas: ' + erro.message)
-      });
+          this.reaplicarEventosPendentes();
+        }
+      },
+      error: (erro) => {
+        if (carga === this.cargaAtual) {
+          this.reaplicarEventosPendentes();
+        }
+        this.exibirErro((todas ? 'Erro ao carregar tarefas: ' : 'Erro ao filtrar tarefas: ') + erro.message);
+      }
+    });
+  }
+
+  /**
+   * Aplica na lista atual os eventos guardados durante a carga.
+   */
+  private reaplicarEventosPendentes(): void {
+    const eventos = this.eventosPendentes ?? [];
+    this.eventosPendentes = null;
+    // Um evento reaplicado pode iniciar nova carga; os seguintes voltam a ser guardados
+    eventos.forEach((evento) => this.aplicarEvento(evento));
+  }
+
+  /**
+   * Aplica na lista local uma alteração recebida do backend.
+   */
+  aplicarEvento(evento: EventoTarefa): void {
+    if (this.eventosPendentes !== null) {
+      this.eventosPendentes.push(evento);
+      return;
+    }
+    switch (evento.tipo) {
+      case 'tarefa-criada':
+      case 'tarefa-atualizada':
+        this.aplicarTarefa(evento.tarefa);
+        break;
+      case 'tarefa-removida':
+        this.tarefas.update((tarefas) => tarefas.filter((t) => t.id !== evento.id));
+        break;
+      case 'status-alterado': {
+        // Tarefas que passaram a atender o filtro não estão na lista local
+        if (this.filtroStatus() === evento.novoStatus) {
+          this.carregarTarefas();
+          break;
+        }
+        const ids = new Set(evento.ids);
+        this.tarefas.update((tarefas) => tarefas
+          .map((t) => ids.has(t.id!) ? { ...t, status: evento.novoStatus } : t)
+          .filter((t) => this.atendeFiltro(t)));
+        break;
+      }
+      case 'resincronizar':
+        this.carregarTarefas();
+        break;
+    }
+  }
+
+  /**
+   * Insere, substitui ou remove a tarefa da lista local conforme o filtro atual.
+   * Eventos com versão igual ou anterior à da tarefa local são ignorados.
+   */
+  private aplicarTarefa(tarefa: Tarefa): void {
+    this.tarefas.update((tarefas) => {
+      const indice = tarefas.findIndex((t) => t.id === tarefa.id);
+      const local = indice < 0 ? undefined : tarefas[indice];
+      if (local?.versao !== undefined && tarefa.versao !== undefined && tarefa.versao <= local.versao) {
+        return tarefas;
+      }
+      if (!this.atendeFiltro(tarefa)) {
+        return indice < 0 ? tarefas : tarefas.filter((t) => t.id !== tarefa.id);
+      }
+      if (indice < 0) {
+        return [tarefa, ...tarefas];
+      }
+      const atualizadas = [...tarefas];
+      atualizadas[indice] = tarefa;
+      return atualizadas;
+    });
+  }
+
+  /**
+   * Verifica se a tarefa atende ao filtro de status selecionado.
+   */
+  private atendeFiltro(tarefa: Tarefa): boolean {
+    return this.filtroStatus() === 'TODAS' || this.filtroStatus() === tarefa.status;
+  }
+
+  /**
+   * Recarrega a lista apenas se o fluxo de eventos não estiver conectado.
+   */
+  private recarregarSemEventos(): void {
+    if (!this.tarefaService.eventosConectados()) {
+      this.carregarTarefas();
     }
   }
 
@@ -91,7 +197,7 @@ export class AppComponent implements OnInit {
         this.exibirSucesso('Tarefa criada com sucesso!');
         console.log('Mensagem de sucesso definida:', this.mensagemSucesso());
         this.limparFormulario();
-        this.carregarTarefas();
+        this.recarregarSemEventos();
       },
       error: (erro) => {
         console.error('Erro ao criar tarefa:', erro);
@@ -117,23 +223,35 @@ export class AppComponent implements OnInit {
       return;
     }
 
-    const tarefaUpdate: TarefaUpdate = {
-      titulo: tarefa.titulo,
-      descricao: tarefa.descricao,
-      status: tarefa.status
-    };
+    const original = this.tarefas().find((t) => t.id === tarefa.id);
+    if (original?.versao === undefined || tarefa.versao === undefined) {
+      this.exibirErro('Tarefa desatualizada. Recarregue a lista e tente novamente.');
+      return;
+    }
+
+    // Envia apenas os campos alterados, com a versão lida para detectar edições concorrentes
+    const alteracoes: TarefaPatch = { versao: tarefa.versao };
+    if (tarefa.titulo !== original.titulo) alteracoes.titulo = tarefa.titulo;
+    if (tarefa.descricao !== original.descricao) alteracoes.descricao = tarefa.descricao;
+    if (tarefa.status !== original.status) alteracoes.status = tarefa.status;
 
-    console.log('Atualizando tarefa...', tarefa.id, tarefaUpdate);
-    this.tarefaService.atualizar(tarefa.id, tarefaUpdate).subscribe({
+    console.log('Atualizando tarefa...', tarefa.id, alteracoes);
+    this.tarefaService.atualizarParcialmente(tarefa.id, alteracoes).subscribe({
       next: (tarefa) => {
         console.log('Tarefa atualizada com sucesso:', tarefa);
         this.exibirAviso('Tarefa atualizada com sucesso!');
         console.log('Mensagem de aviso definida:', this.mensagemAviso());
         this.cancelarEdicao();
-        this.carregarTarefas();
+        this.recarregarSemEventos();
       },
       error: (erro) => {
         console.error('Erro ao atualizar tarefa:', erro);
+        if (erro.status === 409) {
+          this.exibirErro('A tarefa foi alterada por outro usuário. Revise os dados e tente novamente.');
+          this.cancelarEdicao();
+          this.carregarTarefas();
+          return;
+        }
         this.exibirErro('Erro ao atualizar tarefa: ' + erro.message);
       }
     });
@@ -171,7 +289,7 @@ export class AppComponent implements OnInit {
       next: () => {
         this.exibirSucesso('Tarefa excluída com sucesso!');
         this.tarefaParaDeletar.set(null);
-        this.carregarTarefas();
+        this.recarregarSemEventos();
       },
       error: (erro) => {
         this.exibirErro('Erro ao excluir tarefa: ' + erro.message);
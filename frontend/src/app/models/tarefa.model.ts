@@ -5,6 +5,7 @@ export interface Tarefa {
   status: StatusTarefa;
   dataCriacao?: string;
   dataAtualizacao?: string;
+  versao?: number;
 }
 
 export enum StatusTarefa {
@@ -25,3 +26,19 @@ export interface TarefaUpdate {
   status: StatusTarefa;
 }
 
+export interface TarefaPatch {
+  titulo?: string;
+  descricao?: string;
+  status?: StatusTarefa;
+  versao: number;
+}
+
+
+/**
+ * Alteração recebida pelo fluxo de eventos (SSE) do backend.
+ */
+export type EventoTarefa =
+  | { tipo: 'tarefa-criada' | 'tarefa-atualizada'; tarefa: Tarefa }
+  | { tipo: 'tarefa-removida'; id: number }
+  | { tipo: 'status-alterado'; ids: number[]; novoStatus: StatusTarefa }
+  | { tipo: 'resincronizar' };
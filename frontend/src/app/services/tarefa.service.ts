@@ -1,7 +1,7 @@
-import { Injectable } from '@angular/core';
+import { Injectable, signal } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Tarefa, StatusTarefa, TarefaCreate, TarefaUpdate } from '../models/tarefa.model';
+import { Tarefa, StatusTarefa, TarefaCreate, TarefaUpdate, TarefaPatch, EventoTarefa } from '../models/tarefa.model';
 
 /**
  * Serviço para gerenciar operações relacionadas a tarefas.
@@ -19,6 +19,9 @@ import { Tarefa, StatusTarefa, TarefaCreate, TarefaUpdate } from '../models/tare
 export class TarefaService {
   private apiUrl = 'http://localhost:8080/api/tarefas';
 
+  /** Indica se o fluxo de eventos está conectado. */
+  eventosConectados = signal<boolean>(false);
+
   constructor(private http: HttpClient) {}
 
   /**
@@ -66,6 +69,17 @@ export class TarefaService {
     return this.http.put<Tarefa>(`${this.apiUrl}/${id}`, tarefa);
   }
 
+  /**
+   * Atualiza apenas os campos informados de uma tarefa.
+   * Responde 409 se a versão informada estiver desatualizada.
+   * @param id ID da tarefa a ser atualizada
+   * @param alteracoes Campos alterados e versão conhecida da tarefa
+   * @returns Observable com a tarefa atualizada
+   */
+  atualizarParcialmente(id: number, alteracoes: TarefaPatch): Observable<Tarefa> {
+    return this.http.patch<Tarefa>(`${this.apiUrl}/${id}`, alteracoes);
+  }
+
   /**
    * Deleta uma tarefa.
    * @param id ID da tarefa a ser deletada
@@ -74,4 +88,48 @@ export class TarefaService {
   deletar(id: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
+
+  /**
+   * Acompanha as alterações de tarefas pelo fluxo SSE do backend.
+   *
+   * O navegador reconecta automaticamente em caso de queda; como eventos
+   * podem ter sido perdidos, cada reconexão emite um evento 'resincronizar'.
+   * @returns Observable com as alterações de tarefas
+   */
+  acompanharEventos(): Observable<EventoTarefa> {
+    return new Observable<EventoTarefa>((observer) => {
+      // Sem EventSource (renderização no servidor) não há fluxo de eventos
+      if (typeof EventSource === 'undefined') {
+        observer.complete();
+        return;
+      }
+
+      const fonte = new EventSource(`${this.apiUrl}/eventos`);
+      let jaConectou = false;
+      const ler = (evento: Event) => JSON.parse((evento as MessageEvent).data);
+
+      fonte.onopen = () => {
+        this.eventosConectados.set(true);
+        if (jaConectou) {
+          observer.next({ tipo: 'resincronizar' });
+        }
+        jaConectou = true;
+      };
+      fonte.onerror = () => this.eventosConectados.set(false);
+
+      fonte.addEventListener('tarefa-criada', (e) => observer.next({ tipo: 'tarefa-criada', tarefa: ler(e) }));
+      fonte.addEventListener('tarefa-atualizada', (e) => observer.next({ tipo: 'tarefa-atualizada', tarefa: ler(e) }));
+      fonte.addEventListener('tarefa-removida', (e) => observer.next({ tipo: 'tarefa-removida', id: ler(e).id }));
+      fonte.addEventListener('status-alterado', (e) => {
+        const dados = ler(e);
+        observer.next({ tipo: 'status-alterado', ids: dados.ids, novoStatus: dados.novoStatus });
+      });
+      fonte.addEventListener('resincronizar', () => observer.next({ tipo: 'resincronizar' }));
+
+      return () => {
+        fonte.close();
+        this.eventosConectados.set(false);
+      };
+    });
+  }
 }